@@ -15,6 +15,7 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.QrCodeService;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -22,8 +23,10 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFileFormat;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -57,16 +60,30 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(this.config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        this.storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs.getAddressBookFilePath());
+        this.storage = new StorageManager(addressBookStorage, userPrefsStorage, true);
 
         this.model = initModelManager(this.storage, userPrefs);
 
-        this.logic = new LogicManager(this.model, this.storage);
+        QrCodeService qrCodeService = new QrCodeService();
+        qrCodeService.trackReferences(this.model.getAddressBook().getPersonList());
+        this.logic = new LogicManager(this.model, this.storage, qrCodeService);
 
         this.ui = new UiManager(this.logic);
     }
 
+    /**
+     * Returns the storage for the address book at {@code filePath}, in the format of the data already saved there.
+     * Binary files are memory-mapped, so that persons' weights and exercises are only decoded when they are needed.
+     * Data in an unknown format, and new data, is kept as JSON.
+     */
+    private AddressBookStorage initAddressBookStorage(Path filePath) {
+        if (AddressBookFileFormat.detect(filePath) == AddressBookFileFormat.BINARY) {
+            return new BinaryAddressBookStorage(filePath, true);
+        }
+        return new JournalAddressBookStorage(filePath);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -177,6 +194,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping FitBook ] =============================");
+        this.storage.flush();
         try {
             this.storage.saveUserPrefs(this.model.getUserPrefs());
         } catch (IOException e) {
@@ -68,6 +68,33 @@ public class StringUtil {
         }
     }
 
+    /**
+     * Returns true if {@code s} is empty, or represents an unsigned decimal number with at least one digit
+     * e.g. "1", "1.", "1.5", ".5" <br>
+     * Will return false for any other non-null string input
+     * e.g. ".", "-1", "+1", "1e3", " 2 " (untrimmed), "1.2.3" (more than one decimal point)
+     *
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isUnsignedDecimal(String s) {
+        requireNonNull(s);
+
+        // Checked by hand, as this validates every weight of every person loaded
+        boolean hasDigit = false;
+        boolean hasDecimalPoint = false;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                hasDigit = true;
+            } else if (c == '.' && !hasDecimalPoint) {
+                hasDecimalPoint = true;
+            } else {
+                return false;
+            }
+        }
+        return s.isEmpty() || hasDigit;
+    }
+
     /**
      * Checks if {@code s} represents an integer.
      *
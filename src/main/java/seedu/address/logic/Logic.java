@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +25,14 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on a background thread, after all commands submitted before it have been executed.
+     * @param commandText The command as entered by the user.
+     * @return a future that completes with the result of the command execution, or exceptionally with the
+     *     {@code CommandException} or {@code ParseException} thrown while executing it.
+     */
+    CompletableFuture<CommandResult> executeInBackground(String commandText);
+
     /**
      * Returns the AddressBook.
      *
@@ -47,4 +57,16 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler given the error message when saving data in the background fails.
+     * The handler may be called from a background thread.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
+    /**
+     * Returns a future that completes with the path of the QR code of {@code person}, generating it in the background
+     * if it does not exist yet.
+     */
+    CompletableFuture<Path> getQrCode(Person person);
 }
@@ -3,6 +3,10 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -27,40 +31,109 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    private static final String COMMAND_LATENCY_FORMAT = "Command took %.3f ms (execute: %.3f ms, save: %s)";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final QrCodeService qrCodeService;
+    private final Executor commandExecutor;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new QrCodeService());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, {@code Storage} and {@code QrCodeService}.
+     */
+    public LogicManager(Model model, Storage storage, QrCodeService qrCodeService) {
         this.model = model;
         this.storage = storage;
         this.addressBookParser = new AddressBookParser();
+        this.qrCodeService = qrCodeService;
+        // A single thread executes the commands, so they are applied in the order they were submitted
+        this.commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-executor");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         this.logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        long startTime = System.nanoTime();
+        long modificationCount = this.model.getAddressBookModificationCount();
+
         CommandResult commandResult;
         Command command = this.addressBookParser.parseCommand(commandText);
         commandResult = command.execute(this.model);
-
-        try {
-            this.storage.saveAddressBook(this.model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        long executedTime = System.nanoTime();
+
+        // Commands that leave the address book unchanged have nothing to persist
+        boolean isModified = this.model.getAddressBookModificationCount() != modificationCount;
+        if (isModified) {
+            try {
+                this.storage.saveAddressBook(this.model.getAddressBook());
+            } catch (IOException ioe) {
+                throw new CommandException(getSaveErrorMessage(ioe), ioe);
+            }
         }
+        long savedTime = System.nanoTime();
 
+        String saveLatency = isModified ? String.format("%.3f ms", toMillis(savedTime - executedTime)) : "skipped";
+        this.logger.info(String.format(COMMAND_LATENCY_FORMAT, toMillis(savedTime - startTime),
+                toMillis(executedTime - startTime), saveLatency));
         return commandResult;
     }
 
+    @Override
+    public CompletableFuture<CommandResult> executeInBackground(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        this.commandExecutor.execute(() -> {
+            try {
+                result.complete(this.execute(commandText));
+            } catch (Throwable e) {
+                // Errors such as failed assertions must complete the future too, or the command stays pending forever
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        this.storage.setSaveErrorHandler(ioe -> saveErrorHandler.accept(getSaveErrorMessage(ioe)));
+    }
+
+    @Override
+    public CompletableFuture<Path> getQrCode(Person person) {
+        return this.qrCodeService.getQrCode(person);
+    }
+
+    /**
+     * Returns the message shown to the user when saving the address book fails with {@code ioe}.
+     */
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    /**
+     * Converts a duration in nanoseconds to milliseconds.
+     */
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return this.model.getAddressBook();
@@ -1,20 +1,29 @@
 package seedu.address.logic;
 
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashMap;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.Map;
+import javax.imageio.ImageIO;
 
 import com.google.zxing.BarcodeFormat;
 import com.google.zxing.EncodeHintType;
 import com.google.zxing.WriterException;
-import com.google.zxing.client.j2se.MatrixToImageWriter;
 import com.google.zxing.common.BitMatrix;
 import com.google.zxing.qrcode.QRCodeWriter;
 import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
 
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.person.Person;
 
 /**
@@ -25,6 +34,14 @@ public class QrCodeGenerator {
      * The folder where QR codes are stored.
      */
     public static final Path QR_CODE_FOLDER = Paths.get("data", "qrcodes");
+    /**
+     * The extension of QR code files.
+     */
+    public static final String QR_CODE_EXTENSION = ".png";
+    /**
+     * The suffix of the temporary files that QR codes are written to before they are moved into place.
+     */
+    private static final String TEMP_SUFFIX = ".tmp";
     /**
      * The width of the QR code.
      */
@@ -33,6 +50,18 @@ public class QrCodeGenerator {
      * The height of the QR code.
      */
     private static final int QR_CODE_HEIGHT = 200;
+    /**
+     * The hints used to encode every QR code.
+     */
+    private static final Map<EncodeHintType, Object> HINTS = createHints();
+    /**
+     * The writer used to encode every QR code. It keeps no state between encodings, so it can be shared by threads.
+     */
+    private static final QRCodeWriter QR_CODE_WRITER = new QRCodeWriter();
+    /**
+     * The image that each thread draws QR codes into before writing them, reused for QR codes of the same size.
+     */
+    private static final ThreadLocal<BufferedImage> IMAGE_BUFFER = new ThreadLocal<>();
 
     /**
      * Generates a QR code based on the provided person information and saves it to the specified file path
@@ -42,22 +71,80 @@ public class QrCodeGenerator {
      * @throws IOException     if an error occurs while writing the QR code image to the file
      */
     public static void generateQrCode(Person person) throws WriterException, IOException {
+        generateQrCode(person, getQrCodePath(person));
+    }
+
+    /**
+     * Generates a QR code based on the provided person information and saves it to {@code path}.
+     * The image is written to a temporary file in the same folder and then moved to {@code path}, so that
+     * {@code path} never holds a partially written image, even if the app stops while writing it.
+     *
+     * @param person the person object containing the information to encode in the QR code
+     * @param path the file to save the QR code image to
+     * @throws WriterException if an error occurs during the encoding process
+     * @throws IOException     if an error occurs while writing the QR code image to the file
+     */
+    public static void generateQrCode(Person person, Path path) throws WriterException, IOException {
+        BitMatrix bitMatrix = encodeQrCode(person);
+
+        Path folder = path.toAbsolutePath().getParent();
+        Files.createDirectories(folder); // Create necessary folders along the path if they do not exist
+        Path tempPath = Files.createTempFile(folder, path.getFileName().toString(), TEMP_SUFFIX);
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempPath))) {
+                if (!ImageIO.write(drawImage(bitMatrix), "PNG", out)) {
+                    throw new IOException("No PNG writer is available");
+                }
+            }
+            FileUtil.moveReplacing(tempPath, path);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    /**
+     * Draws {@code bitMatrix} into this thread's image buffer, with one pixel per module.
+     */
+    private static BufferedImage drawImage(BitMatrix bitMatrix) {
+        int width = bitMatrix.getWidth();
+        int height = bitMatrix.getHeight();
+        BufferedImage image = IMAGE_BUFFER.get();
+        if (image == null || image.getWidth() != width || image.getHeight() != height) {
+            image = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_BINARY);
+            IMAGE_BUFFER.set(image);
+        }
+
+        // The default palette of a binary image has black at index 0 and white at index 1
+        WritableRaster raster = image.getRaster();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                raster.setSample(x, y, 0, bitMatrix.get(x, y) ? 0 : 1);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Encodes a QR code based on the provided person information, without saving it
+     *
+     * @param person the person object containing the information to encode in the QR code
+     * @return the modules of the QR code, where {@code true} is a dark module
+     * @throws WriterException if an error occurs during the encoding process
+     */
+    public static BitMatrix encodeQrCode(Person person) throws WriterException {
         // As we generate a QR code from a person object, the person object must not be null
         assert (person != null);
 
         String vCard = createVCardString(person);
+        return QR_CODE_WRITER.encode(vCard, BarcodeFormat.QR_CODE, QR_CODE_WIDTH, QR_CODE_HEIGHT, HINTS);
+    }
 
-        Map<EncodeHintType, Object> hints = new HashMap<>();
+    private static Map<EncodeHintType, Object> createHints() {
+        Map<EncodeHintType, Object> hints = new EnumMap<>(EncodeHintType.class);
         hints.put(EncodeHintType.CHARACTER_SET, "UTF-8");
         hints.put(EncodeHintType.MARGIN, 1); // Set the margin to avoid cutting off
         hints.put(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.L);
-
-        QRCodeWriter qrCodeWriter = new QRCodeWriter();
-        BitMatrix bitMatrix = qrCodeWriter.encode(vCard, BarcodeFormat.QR_CODE, QR_CODE_WIDTH, QR_CODE_HEIGHT, hints);
-
-        Path path = getQrCodePath(person);
-        Files.createDirectories(path.getParent()); // Create necessary folders along the path if they do not exist
-        MatrixToImageWriter.writeToPath(bitMatrix, "PNG", path);
+        return Collections.unmodifiableMap(hints);
     }
 
     /**
@@ -84,6 +171,31 @@ public class QrCodeGenerator {
      * @return the file path for the QR code
      */
     public static Path getQrCodePath(Person person) {
-        return Paths.get(QR_CODE_FOLDER.toString(), person.hashCode() + ".png");
+        return QR_CODE_FOLDER.resolve(getQrCodeFileName(person));
+    }
+
+    /**
+     * Generates the file name for the QR code of a specific person.
+     * The name is the SHA-256 digest of the encoded vCard, so persons with the same vCard share a QR code, and
+     * changes to fields that are not in the vCard keep the same QR code.
+     *
+     * @param person the person for whom the QR code file name is generated
+     * @return the file name for the QR code
+     */
+    public static String getQrCodeFileName(Person person) {
+        byte[] digest = createDigest().digest(createVCardString(person).getBytes(StandardCharsets.UTF_8));
+        StringBuilder fileName = new StringBuilder(digest.length * 2 + QR_CODE_EXTENSION.length());
+        for (byte b : digest) {
+            fileName.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return fileName.append(QR_CODE_EXTENSION).toString();
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports SHA-256", e);
+        }
     }
 }
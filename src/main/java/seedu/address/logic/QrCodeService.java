@@ -0,0 +1,251 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import com.google.zxing.WriterException;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
+
+/**
+ * Generates QR codes on a bounded pool of background threads when they are requested, or in a parallel batch when
+ * many persons are added at once.
+ *
+ * QR code files are named by the digest of their content (see {@link QrCodeGenerator#getQrCodeFileName(Person)}),
+ * so existing files are reused, including across restarts, and concurrent requests for the same file share one
+ * generation. Once the service tracks the persons of an address book, it counts the persons referring to each file,
+ * deletes a file when no person refers to it anymore, and deletes files left behind by earlier runs.
+ */
+public class QrCodeService {
+    /**
+     * The number of threads that generate QR codes.
+     */
+    public static final int POOL_SIZE = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    private static final String BATCH_THROUGHPUT_FORMAT = "Generated %d QR codes in %.3f ms (%.1f persons/s)";
+
+    private static final Logger logger = LogsCenter.getLogger(QrCodeService.class);
+
+    private final Executor executor;
+    private final Path qrCodeFolder;
+    private final Map<Path, CompletableFuture<Path>> pendingRequests = new ConcurrentHashMap<>();
+    private final Map<String, Integer> referenceCounts = new HashMap<>();
+
+    /**
+     * Creates a {@code QrCodeService} that generates QR codes in {@link QrCodeGenerator#QR_CODE_FOLDER} on
+     * {@link #POOL_SIZE} daemon threads.
+     */
+    public QrCodeService() {
+        this(Executors.newFixedThreadPool(POOL_SIZE, runnable -> {
+            Thread thread = new Thread(runnable, "qr-code-generator");
+            thread.setDaemon(true);
+            return thread;
+        }), QrCodeGenerator.QR_CODE_FOLDER);
+    }
+
+    /**
+     * Creates a {@code QrCodeService} that generates QR codes in {@code qrCodeFolder} on {@code executor}.
+     */
+    QrCodeService(Executor executor, Path qrCodeFolder) {
+        requireNonNull(executor);
+        requireNonNull(qrCodeFolder);
+        this.executor = executor;
+        this.qrCodeFolder = qrCodeFolder;
+    }
+
+    /**
+     * Returns a future that completes with the path of the QR code of {@code person} once it exists on disk.
+     * The future completes exceptionally if the QR code could not be generated.
+     */
+    public CompletableFuture<Path> getQrCode(Person person) {
+        requireNonNull(person);
+        Path path = this.getQrCodePath(person);
+        // A QR code being generated is only handed out once its generation completes
+        CompletableFuture<Path> pendingRequest = this.pendingRequests.get(path);
+        if (pendingRequest != null) {
+            return pendingRequest;
+        }
+        if (Files.exists(path)) {
+            return CompletableFuture.completedFuture(path);
+        }
+
+        CompletableFuture<Path> request = new CompletableFuture<>();
+        pendingRequest = this.pendingRequests.putIfAbsent(path, request);
+        if (pendingRequest != null) {
+            return pendingRequest;
+        }
+        this.executor.execute(() -> this.generate(person, path, request));
+        return request;
+    }
+
+    /**
+     * Generates the QR codes of {@code persons} that do not exist yet, such as after a whole address book is imported.
+     * The QR codes are generated in parallel on all cores, in the background, and the throughput is logged.
+     *
+     * @return a future that completes with the number of QR codes generated.
+     */
+    public CompletableFuture<Integer> generateAll(List<? extends Person> persons) {
+        requireNonNull(persons);
+        List<Person> batch = new ArrayList<>(persons);
+        return CompletableFuture.supplyAsync(() -> this.generateBatch(batch), this.executor);
+    }
+
+    private int generateBatch(List<Person> persons) {
+        long startTime = System.nanoTime();
+
+        // Each QR code is generated once, and not at all if a request for it is already being generated
+        Map<Path, Person> batch = new LinkedHashMap<>();
+        Map<Path, CompletableFuture<Path>> requests = new HashMap<>();
+        for (Person person : persons) {
+            Path path = this.getQrCodePath(person);
+            if (batch.containsKey(path) || Files.exists(path)) {
+                continue;
+            }
+            CompletableFuture<Path> request = new CompletableFuture<>();
+            if (this.pendingRequests.putIfAbsent(path, request) == null) {
+                batch.put(path, person);
+                requests.put(path, request);
+            }
+        }
+
+        batch.entrySet().parallelStream()
+                .forEach(entry -> this.generate(entry.getValue(), entry.getKey(), requests.get(entry.getKey())));
+
+        int generatedCount = (int) requests.values().stream()
+                .filter(request -> !request.isCompletedExceptionally())
+                .count();
+        long elapsedTime = Math.max(1, System.nanoTime() - startTime);
+        logger.info(String.format(BATCH_THROUGHPUT_FORMAT, generatedCount, elapsedTime / 1e6,
+                generatedCount * 1e9 / elapsedTime));
+        return generatedCount;
+    }
+
+    private Path getQrCodePath(Person person) {
+        return this.qrCodeFolder.resolve(QrCodeGenerator.getQrCodeFileName(person));
+    }
+
+    private void generate(Person person, Path path, CompletableFuture<Path> request) {
+        try {
+            // An earlier request may have finished generating it after this one was made
+            if (!Files.exists(path)) {
+                QrCodeGenerator.generateQrCode(person, path);
+                logger.fine("Generated QR code " + path);
+            }
+            this.pendingRequests.remove(path, request);
+            request.complete(path);
+        } catch (WriterException | IOException | RuntimeException e) {
+            logger.warning("Unable to generate QR code for " + person + ": " + e);
+            this.pendingRequests.remove(path, request);
+            request.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Starts counting the references of {@code persons} and of later changes to it, deleting QR codes that are no
+     * longer referred to. QR codes that none of {@code persons} refer to are deleted in the background.
+     * When a change adds several persons at once, such as an import, their QR codes are generated in a batch.
+     */
+    public void trackReferences(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        this.addReferences(persons);
+        persons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                // Added persons are counted first, so that a QR code shared by a replaced person is kept
+                List<? extends Person> addedPersons = change.getAddedSubList();
+                this.addReferences(addedPersons);
+                this.removeReferences(change.getRemoved());
+                if (addedPersons.size() > 1) {
+                    this.generateAll(addedPersons);
+                }
+            }
+        });
+        this.executor.execute(this::deleteOrphans);
+    }
+
+    /**
+     * Counts a reference from each of {@code persons} to their QR code.
+     */
+    synchronized void addReferences(List<? extends Person> persons) {
+        for (Person person : persons) {
+            this.referenceCounts.merge(QrCodeGenerator.getQrCodeFileName(person), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Removes the reference from each of {@code persons} to their QR code, deleting QR codes in the background once
+     * nothing refers to them.
+     */
+    synchronized void removeReferences(List<? extends Person> persons) {
+        for (Person person : persons) {
+            String fileName = QrCodeGenerator.getQrCodeFileName(person);
+            Integer count = this.referenceCounts.computeIfPresent(fileName, (name, oldCount) ->
+                    oldCount > 1 ? oldCount - 1 : null);
+            if (count == null) {
+                this.executor.execute(() -> this.deleteIfUnreferenced(fileName));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of persons referring to the QR code with {@code fileName}.
+     */
+    synchronized int getReferenceCount(String fileName) {
+        return this.referenceCounts.getOrDefault(fileName, 0);
+    }
+
+    private void deleteIfUnreferenced(String fileName) {
+        Path path = this.qrCodeFolder.resolve(fileName);
+        // Checked and deleted while holding the lock, so that a QR code referred to in between is never deleted
+        synchronized (this) {
+            if (this.referenceCounts.containsKey(fileName)) {
+                return;
+            }
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                logger.warning("Unable to delete QR code " + path + ": " + e);
+            }
+        }
+    }
+
+    /**
+     * Deletes the QR codes in the QR code folder that no person refers to.
+     */
+    void deleteOrphans() {
+        if (!Files.isDirectory(this.qrCodeFolder)) {
+            return;
+        }
+        int deletedCount = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(this.qrCodeFolder,
+                "*" + QrCodeGenerator.QR_CODE_EXTENSION)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                synchronized (this) {
+                    if (!this.referenceCounts.containsKey(fileName) && Files.deleteIfExists(file)) {
+                        deletedCount++;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Unable to delete unused QR codes in " + this.qrCodeFolder + ": " + e);
+        }
+        logger.info("Deleted " + deletedCount + " unused QR codes");
+    }
+}
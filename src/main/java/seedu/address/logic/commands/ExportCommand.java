@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.messages.ExportCommandMessages.MESSAGE_EXPORT_FAILED;
+import static seedu.address.logic.messages.ExportCommandMessages.MESSAGE_SUCCESS;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.AddressBookFileFormat;
+
+/**
+ * Exports all clients in the address book to a file, in the format given by the file's extension.
+ */
+public class ExportCommand extends Command {
+
+    private final Path filePath;
+
+    /**
+     * Creates an ExportCommand that exports all clients to {@code filePath}.
+     *
+     * @param filePath the file to export to
+     */
+    public ExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        try {
+            AddressBookFileFormat.of(this.filePath).createStorage(this.filePath).saveAddressBook(addressBook);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_EXPORT_FAILED, this.filePath, ioe.getMessage()), ioe);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, addressBook.getPersonList().size(), this.filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return this.filePath.equals(otherExportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", this.filePath)
+                .toString();
+    }
+}
@@ -5,6 +5,8 @@ import static seedu.address.logic.messages.FindCommandMessages.MESSAGE_CLIENTS_F
 import static seedu.address.logic.messages.FindCommandMessages.MESSAGE_NO_CLIENTS_FOUND;
 import static seedu.address.logic.messages.FindCommandMessages.MESSAGE_ONE_CLIENT_FOUND;
 
+import java.util.regex.Pattern;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
 import seedu.address.model.person.predicates.CombinedPredicates;
@@ -17,7 +19,9 @@ import seedu.address.model.person.predicates.CombinedPredicates;
 public class FindCommand extends Command {
     /** Represents a regular expression to test for a valid search range input. */
     public static final String VALIDATION_REGEX_RANGE = "^\\d+(\\.\\d+)?,\\s*\\d+(\\.\\d+)?$";
+    private static final Pattern VALIDATION_PATTERN_RANGE = Pattern.compile(VALIDATION_REGEX_RANGE);
     private final CombinedPredicates predicates;
+    private final boolean isExplain;
 
     /**
      * Constructs a FindCommand object with the predicates we want
@@ -26,14 +30,26 @@ public class FindCommand extends Command {
      * @param predicates the search information
      */
     public FindCommand(CombinedPredicates predicates) {
+        this(predicates, false);
+    }
+
+    /**
+     * Constructs a FindCommand object with the predicates we want
+     * to use in the search
+     *
+     * @param predicates the search information
+     * @param isExplain whether to explain how the search was done in the result
+     */
+    public FindCommand(CombinedPredicates predicates, boolean isExplain) {
         this.predicates = predicates;
+        this.isExplain = isExplain;
     }
 
     /**
      * Returns if a given string is a valid email.
      */
     public static boolean isValidRange(String test) {
-        return test.matches(VALIDATION_REGEX_RANGE);
+        return VALIDATION_PATTERN_RANGE.matcher(test).matches();
     }
 
     @Override
@@ -42,16 +58,19 @@ public class FindCommand extends Command {
         model.updateFilteredPersonList(this.predicates);
         int listSize = model.getFilteredPersonList().size();
 
+        String message;
         if (listSize == 0) {
-            return new CommandResult(MESSAGE_NO_CLIENTS_FOUND);
+            message = MESSAGE_NO_CLIENTS_FOUND;
+        } else if (listSize == 1) {
+            message = MESSAGE_ONE_CLIENT_FOUND;
+        } else {
+            message = String.format(MESSAGE_CLIENTS_FOUND_OVERVIEW, listSize);
         }
 
-        if (listSize == 1) {
-            return new CommandResult(MESSAGE_ONE_CLIENT_FOUND);
+        if (this.isExplain) {
+            message += "\n" + model.explainSearch(this.predicates);
         }
-
-        return new CommandResult(
-                String.format(MESSAGE_CLIENTS_FOUND_OVERVIEW, listSize));
+        return new CommandResult(message);
     }
 
     @Override
@@ -66,13 +85,15 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return this.predicates.equals(otherFindCommand.predicates);
+        return this.predicates.equals(otherFindCommand.predicates)
+                && this.isExplain == otherFindCommand.isExplain;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicates", this.predicates)
+                .add("isExplain", this.isExplain)
                 .toString();
     }
 }
@@ -0,0 +1,79 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_FILE_NOT_FOUND;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_IMPORT_FAILED;
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_SUCCESS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.AddressBookFileFormat;
+
+/**
+ * Replaces all clients in the address book with the clients in a file, read in the format given by the file's
+ * extension.
+ */
+public class ImportCommand extends Command {
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand that imports all clients from {@code filePath}.
+     *
+     * @param filePath the file to import from
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Optional<ReadOnlyAddressBook> addressBook;
+        try {
+            addressBook = AddressBookFileFormat.of(this.filePath).createStorage(this.filePath).readAddressBook();
+        } catch (DataLoadingException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            throw new CommandException(String.format(MESSAGE_IMPORT_FAILED, this.filePath, cause.getMessage()), e);
+        }
+        if (!addressBook.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, this.filePath));
+        }
+
+        model.setAddressBook(addressBook.get());
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, addressBook.get().getPersonList().size(),
+                this.filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return this.filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", this.filePath)
+                .toString();
+    }
+}
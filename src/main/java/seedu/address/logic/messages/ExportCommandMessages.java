@@ -0,0 +1,18 @@
+package seedu.address.logic.messages;
+
+/**
+ * Messages used by ExportCommand and associated classes.
+ */
+public class ExportCommandMessages extends Messages {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports all clients to the given file.\n"
+            + "Files ending in .json are written as JSON, any other file in FitBook's compact binary format.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/backup.fitbook";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d client(s) to %2$s";
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export to %1$s: %2$s";
+    public static final String MESSAGE_INVALID_FILE_PATH = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE);
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.messages;
 
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FIND_EXPLAIN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_HEIGHT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
@@ -28,6 +29,7 @@ public class FindCommandMessages extends Messages {
             + "[" + PREFIX_HEIGHT + "RANGE] "
             + "[" + PREFIX_NOTE + "NOTE] "
             + "[" + PREFIX_TAG + "TAG] "
+            + "[" + PREFIX_FIND_EXPLAIN + "] "
             + "\nExample: " + COMMAND_WORD + " "
             + PREFIX_EMAIL + "lewis@hotmail.com";
 
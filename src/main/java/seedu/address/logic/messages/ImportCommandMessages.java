@@ -0,0 +1,19 @@
+package seedu.address.logic.messages;
+
+/**
+ * Messages used by ImportCommand and associated classes.
+ */
+public class ImportCommandMessages extends Messages {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Replaces all clients with the clients in the given file.\n"
+            + "Files ending in .json are read as JSON, any other file in FitBook's compact binary format.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/backup.fitbook";
+    public static final String MESSAGE_SUCCESS = "Imported %1$d client(s) from %2$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File %1$s does not exist.";
+    public static final String MESSAGE_IMPORT_FAILED = "Could not import from %1$s: %2$s";
+    public static final String MESSAGE_INVALID_FILE_PATH = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE);
+}
@@ -22,6 +22,7 @@ import java.util.Set;
 import java.util.TreeMap;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.messages.AddCommandMessages;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.exercise.ExerciseSet;
 import seedu.address.model.person.Address;
@@ -38,7 +39,7 @@ import seedu.address.model.tag.Tag;
 /**
  * Parses input arguments and creates a new AddCommand object
  */
-public class AddCommandParser implements Parser<AddCommand> {
+public class AddCommandParser implements CommandWordParser<AddCommand> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand
@@ -99,4 +100,9 @@ public class AddCommandParser implements Parser<AddCommand> {
 
         return new AddCommand(person);
     }
+
+    @Override
+    public String getCommandWord() {
+        return AddCommandMessages.COMMAND_WORD;
+    }
 }
@@ -4,39 +4,48 @@ import static seedu.address.logic.messages.AddressBookParserMessages.MESSAGE_PAR
 import static seedu.address.logic.messages.HelpCommandMessages.INVALID_COMMAND_FORMAT_HELP;
 import static seedu.address.logic.messages.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
-import seedu.address.logic.commands.ExitCommand;
-import seedu.address.logic.commands.HelpCommand;
-import seedu.address.logic.commands.ListCommand;
-import seedu.address.logic.messages.AddCommandMessages;
-import seedu.address.logic.messages.ClearCommandMessages;
-import seedu.address.logic.messages.DeleteCommandMessages;
-import seedu.address.logic.messages.EditCommandMessages;
-import seedu.address.logic.messages.ExitCommandMessages;
-import seedu.address.logic.messages.FindCommandMessages;
-import seedu.address.logic.messages.FitAddCommandMessages;
-import seedu.address.logic.messages.FitDeleteCommandMessages;
-import seedu.address.logic.messages.HelpCommandMessages;
-import seedu.address.logic.messages.ListCommandMessages;
-import seedu.address.logic.messages.NoteCommandMessages;
-import seedu.address.logic.messages.WeightCommandMessages;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ *
+ * Each command word is registered with the parser of its arguments, which every {@link CommandWordParser} listed as a
+ * service contributes. Parsers hold no state, so one instance of each is shared by every call, and parsing a command
+ * allocates no parsers.
  */
 public class AddressBookParser {
 
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
+    private static final Map<String, Parser<?>> PARSERS_BY_COMMAND_WORD = createParsers();
+
+    private static Map<String, Parser<?>> createParsers() {
+        Map<String, Parser<?>> parsers = new HashMap<>();
+        for (CommandWordParser<?> parser
+                : ServiceLoader.load(CommandWordParser.class, AddressBookParser.class.getClassLoader())) {
+            register(parsers, parser);
+        }
+        return Collections.unmodifiableMap(parsers);
+    }
+
     /**
-     * Used for initial separation of command word and args.
+     * Registers {@code parser} as the parser of the arguments of its command word, which must be in lower case.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    private static void register(Map<String, Parser<?>> parsers, CommandWordParser<?> parser) {
+        String commandWord = parser.getCommandWord();
+        assert commandWord.equals(commandWord.toLowerCase());
+        Parser<?> previousParser = parsers.put(commandWord, parser);
+        assert previousParser == null : "Command word registered twice: " + commandWord;
+    }
 
     /**
      * Parses user's input into command for execution.
@@ -46,59 +55,53 @@ public class AddressBookParser {
      * @throws ParseException if the user's input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(INVALID_COMMAND_FORMAT_HELP);
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length() && !isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
+        if (containsLineSeparator(arguments)) {
+            throw new ParseException(INVALID_COMMAND_FORMAT_HELP);
+        }
 
         // Note to developers: Change the log level in config.json to enable lower level
         // (i.e., FINE, FINER and lower) log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
-        switch (commandWord.toLowerCase()) {
-        case NoteCommandMessages.COMMAND_WORD:
-            return new NoteCommandParser().parse(arguments);
-
-        case AddCommandMessages.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommandMessages.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommandMessages.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommandMessages.COMMAND_WORD:
-            return new ClearCommandParser().parse(arguments);
-
-        case FindCommandMessages.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case WeightCommandMessages.COMMAND_WORD:
-            return new WeightCommandParser().parse(arguments);
-
-        case ListCommandMessages.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommandMessages.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommandMessages.COMMAND_WORD:
-            return new HelpCommand();
-
-        case FitAddCommandMessages.COMMAND_WORD:
-            return new FitAddCommandParser().parse(arguments);
-
-        case FitDeleteCommandMessages.COMMAND_WORD:
-            return new FitDeleteCommandParser().parse(arguments);
-
-        default:
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
+        }
+        Parser<?> parser = PARSERS_BY_COMMAND_WORD.get(commandWord.toLowerCase());
+        if (parser == null) {
             logger.finer(MESSAGE_PARSE_EXCEPTION + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.parse(arguments);
+    }
+
+    /**
+     * Returns true if {@code c} separates a command word from its arguments.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code arguments} span more than one line, which the arguments of a command never do.
+     */
+    private static boolean containsLineSeparator(String arguments) {
+        for (int i = 0; i < arguments.length(); i++) {
+            char c = arguments.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
     }
 
 }
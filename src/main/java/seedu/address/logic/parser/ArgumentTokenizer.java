@@ -1,9 +1,7 @@
 package seedu.address.logic.parser;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Tokenizes arguments string of the form:
@@ -19,6 +17,7 @@ import java.util.stream.Collectors;
  * in the above example.<br>
  */
 public class ArgumentTokenizer {
+    private static final Prefix PREAMBLE_PREFIX = new Prefix("");
 
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object
@@ -37,7 +36,11 @@ public class ArgumentTokenizer {
     }
 
     /**
-     * Finds all zero-based prefix positions in the given arguments string.
+     * Finds all zero-based prefix positions in the given arguments string, in order of position.
+     * Prefixes at the same position are in the order they are given.
+     *
+     * The arguments string is scanned once, and only the prefixes starting with the character after each whitespace
+     * are compared there, so long values such as notes and addresses are neither copied nor searched repeatedly.
      *
      * @param argsString Arguments string of the form:
      *                   {@code preamble <prefix>value <prefix>value ...}
@@ -45,43 +48,44 @@ public class ArgumentTokenizer {
      * @return List of zero-based prefix positions in the given arguments string
      */
     private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
         List<PrefixPosition> positions = new ArrayList<>();
+        if (prefixes.length == 0) {
+            return positions;
+        }
 
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+        int whitespaceIndex = argsString.indexOf(' ');
+        while (whitespaceIndex != -1 && whitespaceIndex < argsString.length() - 1) {
+            int prefixPosition = whitespaceIndex + 1;
+            char firstChar = Character.toLowerCase(argsString.charAt(prefixPosition));
+            for (Prefix prefix : prefixes) {
+                String prefixString = prefix.getPrefix();
+                if (!prefixString.isEmpty() && prefixString.charAt(0) == firstChar
+                        && isPrefixAt(argsString, prefixString, prefixPosition)) {
+                    positions.add(new PrefixPosition(prefix, prefixPosition));
+                }
+            }
+            whitespaceIndex = argsString.indexOf(' ', prefixPosition);
         }
 
         return positions;
     }
 
     /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
+     * Returns true if {@code prefix} occurs in {@code argsString} at index {@code position}, ignoring the case of
+     * {@code argsString}.
      *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
+     * E.g if {@code argsString} = "e/hi P/900" and {@code prefix} = "p/", this method returns true at index 5.
      */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.toLowerCase().indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
+    private static boolean isPrefixAt(String argsString, String prefix, int position) {
+        if (position + prefix.length() > argsString.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (Character.toLowerCase(argsString.charAt(position + i)) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -98,15 +102,12 @@ public class ArgumentTokenizer {
      */
     private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
 
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
         // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
+        PrefixPosition preambleMarker = new PrefixPosition(PREAMBLE_PREFIX, 0);
         prefixPositions.add(0, preambleMarker);
 
         // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
+        PrefixPosition endPositionMarker = new PrefixPosition(PREAMBLE_PREFIX, argsString.length());
         prefixPositions.add(endPositionMarker);
 
         // Map prefixes to their argument values (if any)
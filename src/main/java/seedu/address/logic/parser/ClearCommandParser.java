@@ -3,12 +3,13 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CLEAR_CONFIRM;
 
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.messages.ClearCommandMessages;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses input arguments and creates a new ClearCommand object
  */
-public class ClearCommandParser implements Parser<ClearCommand> {
+public class ClearCommandParser implements CommandWordParser<ClearCommand> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the ClearCommand
@@ -24,4 +25,9 @@ public class ClearCommandParser implements Parser<ClearCommand> {
         }
     }
 
+    @Override
+    public String getCommandWord() {
+        return ClearCommandMessages.COMMAND_WORD;
+    }
+
 }
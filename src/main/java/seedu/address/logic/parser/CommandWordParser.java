@@ -0,0 +1,18 @@
+package seedu.address.logic.parser;
+
+import seedu.address.logic.commands.Command;
+
+/**
+ * Represents a {@code Parser} of the arguments of the command with a given command word.
+ *
+ * {@code AddressBookParser} finds every implementation with {@link java.util.ServiceLoader}, so a new command is added
+ * by listing its parser in {@code META-INF/services/seedu.address.logic.parser.CommandWordParser}. Implementations
+ * need a public no-argument constructor, and must hold no state, as one instance is shared by every call.
+ */
+public interface CommandWordParser<T extends Command> extends Parser<T> {
+
+    /**
+     * Returns the command word, in lower case, whose arguments this parses.
+     */
+    String getCommandWord();
+}
@@ -6,12 +6,13 @@ import static seedu.address.logic.parser.ParserUtil.parseIndex;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.messages.DeleteCommandMessages;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses input arguments and creates a new DeleteCommand object
  */
-public class DeleteCommandParser implements Parser<DeleteCommand> {
+public class DeleteCommandParser implements CommandWordParser<DeleteCommand> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteCommand
@@ -32,4 +33,9 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
 
     }
 
+    @Override
+    public String getCommandWord() {
+        return DeleteCommandMessages.COMMAND_WORD;
+    }
+
 }
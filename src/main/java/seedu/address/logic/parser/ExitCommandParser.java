@@ -0,0 +1,23 @@
+package seedu.address.logic.parser;
+
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.messages.ExitCommandMessages;
+
+/**
+ * Parses input arguments and creates a new ExitCommand object
+ */
+public class ExitCommandParser implements CommandWordParser<ExitCommand> {
+
+    /**
+     * Returns a ExitCommand, ignoring any arguments.
+     */
+    public ExitCommand parse(String args) {
+        return new ExitCommand();
+    }
+
+    @Override
+    public String getCommandWord() {
+        return ExitCommandMessages.COMMAND_WORD;
+    }
+
+}
@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.messages.ExportCommandMessages.MESSAGE_INVALID_FILE_PATH;
+
+import java.nio.file.Paths;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.messages.ExportCommandMessages;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements CommandWordParser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        String filePath = args.trim();
+        if (filePath.isEmpty() || !FileUtil.isValidPath(filePath)) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+
+        return new ExportCommand(Paths.get(filePath));
+    }
+
+    @Override
+    public String getCommandWord() {
+        return ExportCommandMessages.COMMAND_WORD;
+    }
+
+}
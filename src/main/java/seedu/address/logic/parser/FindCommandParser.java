@@ -5,6 +5,7 @@ import static seedu.address.logic.parser.CliSyntax.ALL_PREFIXES;
 import static seedu.address.logic.parser.CliSyntax.PREFIXES_NAME_PHONE_EMAIL_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FIND_EXPLAIN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_HEIGHT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
@@ -13,7 +14,11 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_WEIGHT;
 import static seedu.address.model.tag.Tag.EMPTY_TAG_SET;
 
+import java.util.Arrays;
+import java.util.stream.Stream;
+
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.messages.FindCommandMessages;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.predicates.AddressContainsSubstringPredicate;
 import seedu.address.model.person.predicates.AlwaysTruePredicate;
@@ -30,7 +35,10 @@ import seedu.address.model.person.predicates.WeightMapContainsWeightRangePredica
 /**
  * Parses input arguments and creates a new FindCommand object
  */
-public class FindCommandParser implements Parser<FindCommand> {
+public class FindCommandParser implements CommandWordParser<FindCommand> {
+    private static final Prefix[] ALL_PREFIXES_AND_EXPLAIN = Stream.concat(Arrays.stream(ALL_PREFIXES),
+            Stream.of(PREFIX_FIND_EXPLAIN)).toArray(Prefix[]::new);
+
     /**
      * Parses the given {@code String} of arguments in the context of the
      * FindCommand
@@ -43,7 +51,7 @@ public class FindCommandParser implements Parser<FindCommand> {
             throw new ParseException(MESSAGE_INVALID_COMMAND_FORMAT_FIND);
         }
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, ALL_PREFIXES);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, ALL_PREFIXES_AND_EXPLAIN);
         AlwaysTruePredicate alwaysTruePredicate = new AlwaysTruePredicate();
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIXES_NAME_PHONE_EMAIL_ADDRESS);
@@ -88,6 +96,11 @@ public class FindCommandParser implements Parser<FindCommand> {
         CombinedPredicates predicates = new CombinedPredicates(namePredicate, phonePredicate, emailPredicate,
                 addressPredicate, weightPredicate, heightPredicate, notePredicate, tagsPredicate);
 
-        return new FindCommand(predicates);
+        return new FindCommand(predicates, argMultimap.contains(PREFIX_FIND_EXPLAIN));
+    }
+
+    @Override
+    public String getCommandWord() {
+        return FindCommandMessages.COMMAND_WORD;
     }
 }
@@ -28,13 +28,14 @@ import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.FitAddCommand;
+import seedu.address.logic.messages.FitAddCommandMessages;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.exercise.ExerciseToAdd;
 
 /**
  * Parses input arguments and creates a new FitAddCommand object
  */
-public class FitAddCommandParser implements Parser<FitAddCommand> {
+public class FitAddCommandParser implements CommandWordParser<FitAddCommand> {
 
     /**
      * Parses the input arguments to create an {@link ArgumentMultimap}
@@ -269,4 +270,9 @@ public class FitAddCommandParser implements Parser<FitAddCommand> {
 
         return new FitAddCommand(index, getExercisesToAdd(argumentMultimap, hasExerciseNamePrefix));
     }
+
+    @Override
+    public String getCommandWord() {
+        return FitAddCommandMessages.COMMAND_WORD;
+    }
 }
@@ -14,12 +14,13 @@ import java.util.Optional;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.FitDeleteCommand;
+import seedu.address.logic.messages.FitDeleteCommandMessages;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses input arguments and creates a new FitDeleteCommand object.
  */
-public class FitDeleteCommandParser implements Parser<FitDeleteCommand> {
+public class FitDeleteCommandParser implements CommandWordParser<FitDeleteCommand> {
 
     private ArgumentMultimap getArgMultiMap(String args) {
         return ArgumentTokenizer.tokenize(args, PREFIX_EXERCISE_NAME, PREFIX_FITDELETE_DELETE_ALL);
@@ -103,4 +104,9 @@ public class FitDeleteCommandParser implements Parser<FitDeleteCommand> {
 
         return new FitDeleteCommand(index, exerciseNameToDelete);
     }
+
+    @Override
+    public String getCommandWord() {
+        return FitDeleteCommandMessages.COMMAND_WORD;
+    }
 }
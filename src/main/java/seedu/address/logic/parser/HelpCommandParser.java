@@ -0,0 +1,23 @@
+package seedu.address.logic.parser;
+
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.messages.HelpCommandMessages;
+
+/**
+ * Parses input arguments and creates a new HelpCommand object
+ */
+public class HelpCommandParser implements CommandWordParser<HelpCommand> {
+
+    /**
+     * Returns a HelpCommand, ignoring any arguments.
+     */
+    public HelpCommand parse(String args) {
+        return new HelpCommand();
+    }
+
+    @Override
+    public String getCommandWord() {
+        return HelpCommandMessages.COMMAND_WORD;
+    }
+
+}
@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.messages.ImportCommandMessages.MESSAGE_INVALID_FILE_PATH;
+
+import java.nio.file.Paths;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.messages.ImportCommandMessages;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object
+ */
+public class ImportCommandParser implements CommandWordParser<ImportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        String filePath = args.trim();
+        if (filePath.isEmpty() || !FileUtil.isValidPath(filePath)) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+
+        return new ImportCommand(Paths.get(filePath));
+    }
+
+    @Override
+    public String getCommandWord() {
+        return ImportCommandMessages.COMMAND_WORD;
+    }
+
+}
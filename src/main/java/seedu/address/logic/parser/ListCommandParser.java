@@ -0,0 +1,23 @@
+package seedu.address.logic.parser;
+
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.messages.ListCommandMessages;
+
+/**
+ * Parses input arguments and creates a new ListCommand object
+ */
+public class ListCommandParser implements CommandWordParser<ListCommand> {
+
+    /**
+     * Returns a ListCommand, ignoring any arguments.
+     */
+    public ListCommand parse(String args) {
+        return new ListCommand();
+    }
+
+    @Override
+    public String getCommandWord() {
+        return ListCommandMessages.COMMAND_WORD;
+    }
+
+}
@@ -11,13 +11,14 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.NoteCommand;
 import seedu.address.logic.commands.NoteEditCommand;
+import seedu.address.logic.messages.NoteCommandMessages;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Note;
 
 /**
  * Parses input arguments and creates a new {@code NoteCommand} object
  */
-public class NoteCommandParser implements Parser<NoteCommand> {
+public class NoteCommandParser implements CommandWordParser<NoteCommand> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the
@@ -69,4 +70,9 @@ public class NoteCommandParser implements Parser<NoteCommand> {
 
         return filteredArgs.length == 2 && filteredArgs[1].equalsIgnoreCase(NOTE_EDIT_TAG);
     }
+
+    @Override
+    public String getCommandWord() {
+        return NoteCommandMessages.COMMAND_WORD;
+    }
 }
@@ -6,6 +6,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import javafx.util.Pair;
 import seedu.address.commons.core.index.Index;
@@ -38,6 +39,9 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
 
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s");
+    private static final Pattern RANGE_SEPARATOR_PATTERN = Pattern.compile(",\\s*");
+
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading
      * and trailing whitespaces will be trimmed.
@@ -81,7 +85,7 @@ public class ParserUtil {
      */
     public static Phone parsePhone(String phone) throws ParseException {
         requireNonNull(phone);
-        String trimmedPhone = phone.replaceAll("\\s", "");
+        String trimmedPhone = WHITESPACE_PATTERN.matcher(phone).replaceAll("");
         if (!Phone.isValidPhone(trimmedPhone)) {
             throw new ParseException(PhoneMessages.MESSAGE_CONSTRAINTS);
         }
@@ -353,7 +357,7 @@ public class ParserUtil {
                 throw new ParseException(FindCommandMessages.MESSAGE_USAGE_RANGE);
             }
 
-            String[] range = searchRange.get().split(",\\s*");
+            String[] range = RANGE_SEPARATOR_PATTERN.split(searchRange.get());
             Float fromRange = Float.valueOf(range[0]);
             Float toRange = Float.valueOf(range[1]);
 
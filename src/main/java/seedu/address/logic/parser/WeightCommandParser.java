@@ -10,6 +10,7 @@ import java.util.Optional;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.WeightCommand;
+import seedu.address.logic.messages.WeightCommandMessages;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.weight.Weight;
 import seedu.address.model.person.weight.WeightEntry;
@@ -17,7 +18,7 @@ import seedu.address.model.person.weight.WeightEntry;
 /**
  * Parses input arguments and creates a new {@code WeightCommand} object
  */
-public class WeightCommandParser implements Parser<WeightCommand> {
+public class WeightCommandParser implements CommandWordParser<WeightCommand> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the {@code WeightCommand}
@@ -51,4 +52,9 @@ public class WeightCommandParser implements Parser<WeightCommand> {
                 WeightEntry.getTimeOfExecution(),
                 ParserUtil.parseWeight(Optional.of(argsArray[1])))));
     }
+
+    @Override
+    public String getCommandWord() {
+        return WeightCommandMessages.COMMAND_WORD;
+    }
 }
@@ -8,6 +8,7 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.index.PersonIndex;
 
 /**
  * Wraps all data at the address-book level
@@ -16,6 +17,7 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -46,6 +48,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        this.modificationCount++;
     }
 
     /**
@@ -73,6 +76,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         this.persons.add(p);
+        this.modificationCount++;
     }
 
     /**
@@ -84,6 +88,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         this.persons.setPerson(target, editedPerson);
+        this.modificationCount++;
     }
 
     /**
@@ -92,6 +97,22 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         this.persons.remove(key);
+        this.modificationCount++;
+    }
+
+    /**
+     * Returns the number of modifications made to this {@code AddressBook} since it was created.
+     * The count only ever increases, so callers can compare two readings to tell whether anything changed.
+     */
+    public long getModificationCount() {
+        return this.modificationCount;
+    }
+
+    /**
+     * Returns the index of the persons in this address book, which is kept up to date as persons change.
+     */
+    public PersonIndex getPersonIndex() {
+        return this.persons.getIndex();
     }
 
     //// util methods
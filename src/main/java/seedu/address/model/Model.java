@@ -6,6 +6,7 @@ import java.util.function.Predicate;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.CombinedPredicates;
 
 /**
  * The API of the Model component.
@@ -52,6 +53,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the number of modifications made to the address book so far.
+     * The value changes whenever the address book is modified, and stays the same otherwise.
+     */
+    long getAddressBookModificationCount();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -84,4 +91,11 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Returns a description of how the address book is searched for the persons satisfying {@code predicates},
+     * with the number of persons left after each stage of the search.
+     * @throws NullPointerException if {@code predicates} is null.
+     */
+    String explainSearch(CombinedPredicates predicates);
 }
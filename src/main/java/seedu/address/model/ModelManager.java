@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.BitSet;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -12,6 +13,9 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PersonIndex;
+import seedu.address.model.person.predicates.CombinedPredicates;
+import seedu.address.model.person.predicates.QueryPlan;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -22,6 +26,10 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    // The last search, and the plan it was filtered with, for refining it
+    private CombinedPredicates lastSearch;
+    private QueryPlan lastSearchPlan;
+    private long lastSearchModificationCount;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -35,8 +43,6 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         this.filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         this.filteredPersons.setPredicate(PREDICATE_SHOW_ALL_PERSONS);
-
-        initQrCodes();
     }
 
     public ModelManager() {
@@ -84,9 +90,6 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        // Delete QR codes of every person in the address book
-        this.addressBook.getPersonList().forEach(Person::deleteQrCode);
-
         this.addressBook.resetData(addressBook);
     }
 
@@ -95,6 +98,11 @@ public class ModelManager implements Model {
         return this.addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return this.addressBook.getModificationCount();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -104,12 +112,10 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         this.addressBook.removePerson(target);
-        target.deleteQrCode();
     }
 
     @Override
     public void addPerson(Person person) {
-        person.generateQrCode();
         this.addressBook.addPerson(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
@@ -118,21 +124,9 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        target.deleteQrCode();
-        editedPerson.generateQrCode();
-
         this.addressBook.setPerson(target, editedPerson);
     }
 
-    /**
-     * Initializes QR codes for all persons in the address book.
-     */
-    public void initQrCodes() {
-        for (Person person : this.addressBook.getPersonList()) {
-            person.generateQrCode();
-        }
-    }
-
     // =========== Filtered Person List Accessors ===========
 
     /**
@@ -148,7 +142,45 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        this.filteredPersons.setPredicate(predicate);
+        if (!(predicate instanceof CombinedPredicates)) {
+            this.lastSearch = null;
+            this.lastSearchPlan = null;
+            this.filteredPersons.setPredicate(predicate);
+            return;
+        }
+
+        // Searches consult the indexes of the address book, so that only the persons they find need to be tested
+        CombinedPredicates search = (CombinedPredicates) predicate;
+        PersonIndex index = this.addressBook.getPersonIndex();
+        long modificationCount = this.addressBook.getModificationCount();
+        // A search that narrows down the last one, such as one being typed, can only find the persons that the last
+        // one found, as long as no person has changed since
+        boolean isRefinement = this.lastSearch != null && this.lastSearchModificationCount == modificationCount
+                && search.isRefinementOf(this.lastSearch);
+        QueryPlan plan = isRefinement
+                ? search.withIndex(index, this.getFilteredPersonIds(index))
+                : search.withIndex(index);
+        this.lastSearch = search;
+        this.lastSearchPlan = plan;
+        this.lastSearchModificationCount = modificationCount;
+        this.filteredPersons.setPredicate(plan);
+    }
+
+    private BitSet getFilteredPersonIds(PersonIndex index) {
+        BitSet ids = new BitSet();
+        for (Person person : this.filteredPersons) {
+            ids.set(index.getId(person));
+        }
+        return ids;
+    }
+
+    @Override
+    public String explainSearch(CombinedPredicates predicates) {
+        requireNonNull(predicates);
+        QueryPlan plan = predicates.equals(this.lastSearch)
+                ? this.lastSearchPlan
+                : predicates.withIndex(this.addressBook.getPersonIndex());
+        return plan.explain(this.addressBook.getPersonList());
     }
 
     @Override
@@ -5,12 +5,15 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.model.person.messages.AddressMessages.MESSAGE_CONSTRAINTS;
 import static seedu.address.model.person.messages.AddressMessages.VALIDATION_REGEX;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in
  * {@link #isValidAddress(String)}
  */
-public class Address extends Attribute<String> {
+public class Address extends TextAttribute {
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     /**
      * Constructs an {@code Address}.
@@ -29,26 +32,7 @@ public class Address extends Attribute<String> {
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
-    }
-
-    /**
-     * Determines if the address value stored is a match with a specified string.
-     * Returns true if specified value is a substring of the address value stored.
-     *
-     * @param otherValue Other value to check against
-     *
-     * @return True if specified value is a match, False otherwise
-     */
-    @Override
-    public boolean isMatch(Object otherValue) {
-        if (!(otherValue instanceof String)) {
-            return false;
-        }
-
-        String other = (String) otherValue;
-
-        return this.getValue().trim().toLowerCase().contains(other.trim().toLowerCase());
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
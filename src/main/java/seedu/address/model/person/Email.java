@@ -5,11 +5,14 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.model.person.messages.EmailMessages.MESSAGE_CONSTRAINTS;
 import static seedu.address.model.person.messages.EmailMessages.VALIDATION_REGEX;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
  */
-public class Email extends Attribute<String> {
+public class Email extends TextAttribute {
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     /**
      * Constructs an {@code Email}.
@@ -28,26 +31,7 @@ public class Email extends Attribute<String> {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
-    }
-
-    /**
-     * Determines if the email value stored is a match with a specified string.
-     * Returns true if specified value is a substring of the email value stored.
-     *
-     * @param otherValue Other value to check against
-     *
-     * @return True if specified value is a match, False otherwise
-     */
-    @Override
-    public boolean isMatch(Object otherValue) {
-        if (!(otherValue instanceof String)) {
-            return false;
-        }
-
-        String other = (String) otherValue;
-
-        return this.getValue().trim().toLowerCase().contains(other.trim().toLowerCase());
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
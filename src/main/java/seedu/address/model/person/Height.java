@@ -5,6 +5,7 @@ import static seedu.address.model.person.messages.HeightMessages.MESSAGE_NO_HEIG
 import static seedu.address.model.person.messages.HeightMessages.MESSAGE_RANGE;
 
 import javafx.util.Pair;
+import seedu.address.commons.util.StringUtil;
 
 /**
  * Represents a Person's height in the address book.
@@ -13,8 +14,6 @@ import javafx.util.Pair;
 public class Height extends Attribute<Float> {
     /** Represents a maximum value a Height. */
     public static final Float HEIGHT_MAX_VALUE = 5000f;
-    /** Regular expression to check for a valid height value. */
-    public static final String VALIDATION_REGEX = "^(?:[0-9]+(?:\\.[0-9]*)?|\\.[0-9]+)?$";
 
     /**
      * Constructs a {@code height}.
@@ -33,7 +32,7 @@ public class Height extends Attribute<Float> {
      * @return True if input is a valid height, false otherwise.
      */
     public static boolean isValidHeight(String test) {
-        return test.matches(VALIDATION_REGEX) && Float.valueOf(test) <= HEIGHT_MAX_VALUE;
+        return StringUtil.isUnsignedDecimal(test) && Float.valueOf(test) <= HEIGHT_MAX_VALUE;
     }
 
     /**
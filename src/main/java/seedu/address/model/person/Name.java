@@ -5,11 +5,14 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.model.person.messages.NameMessages.MESSAGE_CONSTRAINTS;
 import static seedu.address.model.person.messages.NameMessages.VALIDATION_REGEX;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
  */
-public class Name extends Attribute<String> {
+public class Name extends TextAttribute {
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     /**
      * Constructs a {@code Name}.
@@ -26,26 +29,7 @@ public class Name extends Attribute<String> {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
-    }
-
-    /**
-     * Determines if the name value stored is a match with a specified string.
-     * Returns true if specified value is a substring of the name value stored.
-     *
-     * @param otherValue Other value to check against
-     *
-     * @return True if specified value is a match, False otherwise
-     */
-    @Override
-    public boolean isMatch(Object otherValue) {
-        if (!(otherValue instanceof String)) {
-            return false;
-        }
-
-        String other = (String) otherValue;
-
-        return this.getValue().trim().toLowerCase().contains(other.trim().toLowerCase());
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -1,14 +1,8 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.address.model.person.messages.PersonMessages.MESSAGE_CANT_DELETE_QR;
-import static seedu.address.model.person.messages.PersonMessages.MESSAGE_DELETED_QR;
-import static seedu.address.model.person.messages.PersonMessages.MESSAGE_DOES_NOT_EXIST;
-import static seedu.address.model.person.messages.PersonMessages.MESSAGE_GENERATED_QR;
-
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Map;
@@ -16,13 +10,9 @@ import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.logging.Logger;
-
-import com.google.zxing.WriterException;
+import java.util.function.Supplier;
 
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.logic.QrCodeGenerator;
 import seedu.address.model.exercise.ExerciseSet;
 import seedu.address.model.person.exceptions.AttributeNotFoundException;
 import seedu.address.model.person.weight.Weight;
@@ -36,18 +26,17 @@ import seedu.address.model.tag.TagSet;
  * immutable.
  */
 public class Person {
-    private static final Logger logger = LogsCenter.getLogger(Person.class);
     // Identity fields
     private final Name name;
     private final Phone phone;
     private final Email email;
     // Data fields
     private final Address address;
-    private final WeightMap weights;
+    private final Supplier<WeightMap> weights;
     private final Height height;
     private final Note note;
     private final TagSet tags;
-    private final ExerciseSet exerciseSet;
+    private final Supplier<ExerciseSet> exerciseSet;
 
     /**
      * Every field must be present and not null.
@@ -63,12 +52,31 @@ public class Person {
      */
     public Person(Name name, Phone phone, Email email, Address address, NavigableMap<LocalDateTime, Weight> weights,
             Height height, Note note, Set<Tag> tags, ExerciseSet exerciseSet) {
-        requireAllNonNull(name, phone, email, address, weights, height, note, tags);
+        this(name, phone, email, address, asSupplier(new WeightMap(requireNonNull(weights))), height, note, tags,
+                asSupplier(exerciseSet));
+    }
+
+    /**
+     * Creates a person whose weights and exercises are only loaded when they are first needed.
+     * Every field must be present and not null. Each supplier must return equal values every time it is called.
+     * @param name The name of the person to be created.
+     * @param phone The phone number of the person to be created.
+     * @param email The email of the person to be created.
+     * @param address The address of the person to be created.
+     * @param weights Supplies the weight values of the person to be created.
+     * @param height The height value of the person to be created.
+     * @param note Any note associated with the person to be created.
+     * @param tags Any tags associated with the person to be created.
+     * @param exerciseSet Supplies the exercise(s) of the person to be created.
+     */
+    public Person(Name name, Phone phone, Email email, Address address, Supplier<WeightMap> weights,
+            Height height, Note note, Set<Tag> tags, Supplier<ExerciseSet> exerciseSet) {
+        requireAllNonNull(name, phone, email, address, weights, height, note, tags, exerciseSet);
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.weights = new WeightMap(weights);
+        this.weights = weights;
         this.height = height;
         this.note = note;
         Set<Tag> tagSet = new HashSet<>();
@@ -77,6 +85,10 @@ public class Person {
         this.exerciseSet = exerciseSet;
     }
 
+    private static <T> Supplier<T> asSupplier(T value) {
+        return () -> value;
+    }
+
     /**
      * Gets the value of the specified attribute.
      *
@@ -96,13 +108,13 @@ public class Person {
         case NOTE:
             return this.note;
         case WEIGHT:
-            return this.weights;
+            return this.weights.get();
         case HEIGHT:
             return this.height;
         case TAGS:
             return this.tags;
         case EXERCISES:
-            return this.exerciseSet;
+            return this.exerciseSet.get();
 
         default:
             throw new AttributeNotFoundException();
@@ -126,7 +138,7 @@ public class Person {
     }
 
     public Optional<Map.Entry<LocalDateTime, Weight>> getLatestWeight() {
-        return Optional.ofNullable(this.weights.getValue().lastEntry());
+        return Optional.ofNullable(getWeights().lastEntry());
     }
 
     /**
@@ -137,7 +149,7 @@ public class Person {
      * @return A {@code NavigableMap} containing the date and weight key-value entries.
      */
     public NavigableMap<LocalDateTime, Weight> getWeights() {
-        return this.weights.getValue();
+        return this.weights.get().getValue();
     }
 
     public Height getHeight() {
@@ -158,28 +170,7 @@ public class Person {
     }
 
     public ExerciseSet getExerciseSet() {
-        return this.exerciseSet;
-    }
-
-    /**
-     * Retrieves the QR code path.
-     *
-     * @return the path of the generated QR code
-     */
-    public Path getQrCodePath() {
-        return QrCodeGenerator.getQrCodePath(this);
-    }
-
-    /**
-     * Generates a QR code for the person.
-     */
-    public void generateQrCode() {
-        try {
-            QrCodeGenerator.generateQrCode(this);
-            logger.info(MESSAGE_GENERATED_QR + this);
-        } catch (WriterException | IOException e) {
-            logger.warning("Unable to generate QR code for " + this);
-        }
+        return this.exerciseSet.get();
     }
 
     /**
@@ -218,13 +209,13 @@ public class Person {
                 && this.address.equals(otherPerson.address)
                 && this.tags.equals(otherPerson.tags)
                 && this.note.equals(otherPerson.note)
-                && this.exerciseSet.equals(otherPerson.exerciseSet);
+                && getExerciseSet().equals(otherPerson.getExerciseSet());
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(this.name, this.phone, this.email, this.address, this.tags, this.exerciseSet);
+        return Objects.hash(this.name, this.phone, this.email, this.address, this.tags, getExerciseSet());
     }
 
     @Override
@@ -239,26 +230,6 @@ public class Person {
                 .toString();
     }
 
-    /**
-     * Deletes the QR code for the person.
-     *
-     * @return true if a QR code was deleted, false otherwise
-     */
-    public boolean deleteQrCode() {
-        try {
-            boolean result = Files.deleteIfExists(this.getQrCodePath());
-            if (result) {
-                logger.info(MESSAGE_DELETED_QR + this);
-            } else {
-                logger.info(String.format(MESSAGE_DOES_NOT_EXIST, this));
-            }
-            return result;
-        } catch (IOException e) {
-            logger.warning(String.format(MESSAGE_CANT_DELETE_QR, this));
-            return false;
-        }
-    }
-
     /**
      * Generates a formatted message for the Person.
      * Only fields with values are included.
@@ -283,7 +254,7 @@ public class Person {
             sb.append(" | Note: ").append(this.note);
         }
 
-        if (!this.weights.getValue().isEmpty()) {
+        if (!getWeights().isEmpty()) {
             sb.append(" | Latest Weight: ").append(this.getLatestWeight().get().getValue().toString());
         }
 
@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * Represents the identity of a {@code Person}, i.e. the fields compared by {@link Person#isSamePerson(Person)}.
+ * Guarantees: immutable; suitable for use as a hash key.
+ */
+public final class PersonIdentity {
+    private final Name name;
+    private final Phone phone;
+
+    /**
+     * Constructs a {@code PersonIdentity} from the given identity fields.
+     *
+     * @param name The name of the person.
+     * @param phone The phone number of the person.
+     */
+    public PersonIdentity(Name name, Phone phone) {
+        requireAllNonNull(name, phone);
+        this.name = name;
+        this.phone = phone;
+    }
+
+    /**
+     * Returns the identity of the given {@code Person}.
+     */
+    public static PersonIdentity of(Person person) {
+        return new PersonIdentity(person.getName(), person.getPhone());
+    }
+
+    public Name getName() {
+        return this.name;
+    }
+
+    public Phone getPhone() {
+        return this.phone;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonIdentity)) {
+            return false;
+        }
+
+        PersonIdentity otherIdentity = (PersonIdentity) other;
+        return this.name.equals(otherIdentity.name)
+                && this.phone.equals(otherIdentity.phone);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.name, this.phone);
+    }
+
+    @Override
+    public String toString() {
+        return this.name + " (" + this.phone + ")";
+    }
+}
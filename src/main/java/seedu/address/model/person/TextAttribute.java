@@ -0,0 +1,62 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Defines an attribute with a text value, which is searched for case-insensitive substrings.
+ * Attributes are immutable, so the search key of the value is normalized once when the attribute is constructed,
+ * and searching an attribute allocates nothing.
+ */
+public abstract class TextAttribute extends Attribute<String> {
+    private final String searchKey;
+
+    protected TextAttribute(String value) {
+        super(value);
+        requireNonNull(value);
+        this.searchKey = toSearchKey(value);
+    }
+
+    /**
+     * Returns {@code text} normalized for searching, without surrounding whitespace and in lower case.
+     * Returns {@code text} itself if it is already normalized.
+     */
+    public static String toSearchKey(String text) {
+        return text.trim().toLowerCase();
+    }
+
+    /**
+     * Gets the value stored in this attribute, normalized for searching.
+     *
+     * @see #toSearchKey(String)
+     */
+    public String getSearchKey() {
+        return this.searchKey;
+    }
+
+    /**
+     * Returns true if the value stored contains {@code searchKey}, which must already be normalized.
+     *
+     * @param searchKey Normalized value to check against
+     * @see #toSearchKey(String)
+     */
+    public boolean containsSearchKey(String searchKey) {
+        return this.searchKey.contains(searchKey);
+    }
+
+    /**
+     * Determines if the value stored is a match with a specified string.
+     * Returns true if specified value is a substring of the value stored, ignoring case and surrounding whitespace.
+     *
+     * @param otherValue Other value to check against
+     *
+     * @return True if specified value is a match, False otherwise
+     */
+    @Override
+    public boolean isMatch(Object otherValue) {
+        if (!(otherValue instanceof String)) {
+            return false;
+        }
+
+        return this.containsSearchKey(toSearchKey((String) otherValue));
+    }
+}
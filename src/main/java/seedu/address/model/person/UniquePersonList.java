@@ -3,13 +3,17 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.person.index.PersonIndex;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +22,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The identities of all persons in the list are also kept in a hash index, so that identity checks do not need to
+ * scan the whole list, and the persons are kept in a {@code PersonIndex}, so that searches do not need to either.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +34,15 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(this.internalList);
+    private final Set<PersonIdentity> identities = new HashSet<>();
+    private final PersonIndex index = new PersonIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return this.internalList.stream().anyMatch(toCheck::isSamePerson);
+        return this.identities.contains(PersonIdentity.of(toCheck));
     }
 
     /**
@@ -46,6 +55,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         this.internalList.add(toAdd);
+        this.identities.add(PersonIdentity.of(toAdd));
+        this.index.add(toAdd);
     }
 
     /**
@@ -65,7 +76,11 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        this.internalList.set(index, editedPerson);
+        Person replacedPerson = this.internalList.set(index, editedPerson);
+        this.identities.remove(PersonIdentity.of(target));
+        this.identities.add(PersonIdentity.of(editedPerson));
+        this.index.remove(replacedPerson);
+        this.index.add(editedPerson);
     }
 
     /**
@@ -74,14 +89,23 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!this.internalList.remove(toRemove)) {
+        int index = this.internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        // The index holds the instance in the list, which may only be equal to toRemove
+        Person removedPerson = this.internalList.remove(index);
+        this.identities.remove(PersonIdentity.of(toRemove));
+        this.index.remove(removedPerson);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         this.internalList.setAll(replacement.internalList);
+        this.identities.clear();
+        this.identities.addAll(replacement.identities);
+        this.index.clear();
+        replacement.internalList.forEach(this.index::add);
     }
 
     /**
@@ -90,11 +114,30 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Set<PersonIdentity> newIdentities = new HashSet<>();
+        Set<PersonIdentity> duplicateIdentities = new LinkedHashSet<>();
+        for (Person person : persons) {
+            PersonIdentity identity = PersonIdentity.of(person);
+            if (!newIdentities.add(identity)) {
+                duplicateIdentities.add(identity);
+            }
+        }
+        if (!duplicateIdentities.isEmpty()) {
+            throw new DuplicatePersonException(duplicateIdentities);
         }
 
         this.internalList.setAll(persons);
+        this.identities.clear();
+        this.identities.addAll(newIdentities);
+        this.index.clear();
+        persons.forEach(this.index::add);
+    }
+
+    /**
+     * Returns the index of the persons in this list, which is kept up to date as the list changes.
+     */
+    public PersonIndex getIndex() {
+        return this.index;
     }
 
     /**
@@ -133,18 +176,4 @@ public class UniquePersonList implements Iterable<Person> {
     public String toString() {
         return this.internalList.toString();
     }
-
-    /**
-     * Returns true if {@code persons} contains only unique persons.
-     */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
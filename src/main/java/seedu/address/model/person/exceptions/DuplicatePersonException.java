@@ -1,5 +1,10 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.PersonIdentity;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
@@ -8,4 +13,15 @@ public class DuplicatePersonException extends RuntimeException {
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
     }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} naming the identities that collide.
+     *
+     * @param duplicateIdentities Identities that occur more than once.
+     */
+    public DuplicatePersonException(Collection<PersonIdentity> duplicateIdentities) {
+        super("Operation would result in duplicate persons: " + duplicateIdentities.stream()
+                .map(PersonIdentity::toString)
+                .collect(Collectors.joining(", ")));
+    }
 }
@@ -0,0 +1,187 @@
+package seedu.address.model.person.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Person.PersonAttribute;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indexes the persons of a {@code UniquePersonList}, so that searches can find the persons that may match them
+ * without testing every person.
+ *
+ * Each person is given an id when it is added. Ids are never reused, so the ids at or above {@link #getNextId()}
+ * belong to persons added after it was read. The index of an attribute is only built when the attribute is first
+ * searched, and is kept up to date from then on, so that loading an address book does not decode attributes that
+ * are never searched, such as the weights of a memory-mapped file.
+ */
+public class PersonIndex {
+    /**
+     * The attributes whose values can be searched for substrings with an index.
+     */
+    public static final Set<PersonAttribute> SUBSTRING_ATTRIBUTES = Collections.unmodifiableSet(EnumSet.of(
+            PersonAttribute.NAME, PersonAttribute.PHONE, PersonAttribute.EMAIL, PersonAttribute.ADDRESS,
+            PersonAttribute.NOTE));
+
+    /**
+     * The numeric attributes whose values can be searched for ranges with an index.
+     */
+    public static final Set<PersonAttribute> RANGE_ATTRIBUTES = Collections.unmodifiableSet(EnumSet.of(
+            PersonAttribute.WEIGHT, PersonAttribute.HEIGHT));
+
+    private static final String BUILD_TIME_FORMAT = "Built %s index of %s for %d persons in %.3f ms";
+
+    private static final Logger logger = LogsCenter.getLogger(PersonIndex.class);
+
+    private final Map<Person, Integer> ids = new IdentityHashMap<>();
+    private final Map<PersonAttribute, TrigramIndex> trigramIndexes = new EnumMap<>(PersonAttribute.class);
+    private final Map<PersonAttribute, RangeIndex> rangeIndexes = new EnumMap<>(PersonAttribute.class);
+    private TagIndex tagIndex;
+    private int nextId;
+
+    /**
+     * Adds {@code person} to the index, giving it a new id.
+     * Only the {@code UniquePersonList} that owns this index should call this.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        int id = this.nextId++;
+        this.ids.put(person, id);
+        this.trigramIndexes.values().forEach(trigramIndex -> trigramIndex.add(id, person));
+        this.rangeIndexes.values().forEach(rangeIndex -> rangeIndex.add(id, person));
+        if (this.tagIndex != null) {
+            this.tagIndex.add(id, person);
+        }
+    }
+
+    /**
+     * Removes {@code person}, the same instance that was added, from the index.
+     * Only the {@code UniquePersonList} that owns this index should call this.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer id = this.ids.remove(person);
+        if (id != null) {
+            this.trigramIndexes.values().forEach(trigramIndex -> trigramIndex.remove(id, person));
+            this.rangeIndexes.values().forEach(rangeIndex -> rangeIndex.remove(id, person));
+            if (this.tagIndex != null) {
+                this.tagIndex.remove(id, person);
+            }
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     * Only the {@code UniquePersonList} that owns this index should call this.
+     */
+    public void clear() {
+        this.ids.clear();
+        // Rebuilt when they are next searched, as the persons replacing the current ones may never be searched
+        this.trigramIndexes.clear();
+        this.rangeIndexes.clear();
+        this.tagIndex = null;
+    }
+
+    /**
+     * Returns the id of {@code person}, or -1 if that instance is not in the index.
+     */
+    public int getId(Person person) {
+        Integer id = this.ids.get(person);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the id that the next person added will be given.
+     */
+    public int getNextId() {
+        return this.nextId;
+    }
+
+    /**
+     * Returns the ids of the persons whose {@code attribute} may contain {@code query}, ignoring case. Every person
+     * whose attribute contains it is included, but others may be too, so each of them must still be tested.
+     * Returns an empty {@code Optional} if the attribute is not indexed or the query is too short to narrow down.
+     */
+    public Optional<BitSet> findSubstring(PersonAttribute attribute, String query) {
+        requireNonNull(attribute);
+        requireNonNull(query);
+        if (!SUBSTRING_ATTRIBUTES.contains(attribute) || !TrigramIndex.canSearch(query)) {
+            return Optional.empty();
+        }
+        return this.getTrigramIndex(attribute).findCandidates(query);
+    }
+
+    /**
+     * Returns the ids of the persons whose value of the numeric {@code attribute} is at least {@code min} and at most
+     * {@code max}. For {@code WEIGHT}, this is the latest weight of the person.
+     * Returns an empty {@code Optional} if the attribute is not indexed.
+     */
+    public Optional<BitSet> findRange(PersonAttribute attribute, float min, float max) {
+        requireNonNull(attribute);
+        if (!RANGE_ATTRIBUTES.contains(attribute)) {
+            return Optional.empty();
+        }
+        return Optional.of(this.getRangeIndex(attribute).find(min, max));
+    }
+
+    /**
+     * Returns the ids of the persons with all of {@code tags}, ignoring case. {@code tags} must not be empty.
+     */
+    public BitSet findTags(Set<Tag> tags) {
+        requireNonNull(tags);
+        if (this.tagIndex == null) {
+            long startTime = System.nanoTime();
+            TagIndex newIndex = new TagIndex();
+            this.ids.forEach((person, id) -> newIndex.add(id, person));
+            this.tagIndex = newIndex;
+            logger.fine(String.format(BUILD_TIME_FORMAT, "tag", "TAGS", this.ids.size(),
+                    (System.nanoTime() - startTime) / 1e6));
+        }
+        return this.tagIndex.findAll(tags);
+    }
+
+    private TrigramIndex getTrigramIndex(PersonAttribute attribute) {
+        TrigramIndex trigramIndex = this.trigramIndexes.get(attribute);
+        if (trigramIndex == null) {
+            long startTime = System.nanoTime();
+            TrigramIndex newIndex = new TrigramIndex(attribute);
+            // Added in the order of their ids, so that ids are appended to the end of the posting lists
+            this.ids.entrySet().stream()
+                    .sorted(Map.Entry.comparingByValue())
+                    .forEach(entry -> newIndex.add(entry.getValue(), entry.getKey()));
+            this.trigramIndexes.put(attribute, newIndex);
+            this.logBuildTime("substring", attribute, startTime);
+            trigramIndex = newIndex;
+        }
+        return trigramIndex;
+    }
+
+    private RangeIndex getRangeIndex(PersonAttribute attribute) {
+        RangeIndex rangeIndex = this.rangeIndexes.get(attribute);
+        if (rangeIndex == null) {
+            long startTime = System.nanoTime();
+            RangeIndex newIndex = new RangeIndex(attribute);
+            newIndex.addAll(this.ids);
+            this.rangeIndexes.put(attribute, newIndex);
+            this.logBuildTime("range", attribute, startTime);
+            rangeIndex = newIndex;
+        }
+        return rangeIndex;
+    }
+
+    private void logBuildTime(String indexType, PersonAttribute attribute, long startTime) {
+        logger.fine(String.format(BUILD_TIME_FORMAT, indexType, attribute, this.ids.size(),
+                (System.nanoTime() - startTime) / 1e6));
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.model.person.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * A sorted list of distinct person ids, stored in a primitive array.
+ *
+ * Person ids only ever increase, so ids are usually appended at the end of the list.
+ */
+class PostingList {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds {@code id} to the list, if it is not in the list already.
+     */
+    void add(int id) {
+        if (this.size > 0 && this.ids[this.size - 1] < id) {
+            this.insert(this.size, id);
+            return;
+        }
+        int position = Arrays.binarySearch(this.ids, 0, this.size, id);
+        if (position < 0) {
+            this.insert(-position - 1, id);
+        }
+    }
+
+    private void insert(int position, int id) {
+        if (this.size == this.ids.length) {
+            this.ids = Arrays.copyOf(this.ids, this.size * 2);
+        }
+        System.arraycopy(this.ids, position, this.ids, position + 1, this.size - position);
+        this.ids[position] = id;
+        this.size++;
+    }
+
+    /**
+     * Removes {@code id} from the list, if it is in the list.
+     */
+    void remove(int id) {
+        int position = Arrays.binarySearch(this.ids, 0, this.size, id);
+        if (position >= 0) {
+            System.arraycopy(this.ids, position + 1, this.ids, position, this.size - position - 1);
+            this.size--;
+        }
+    }
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the ids that are in all of {@code postingLists}, which must not be empty.
+     */
+    static BitSet intersect(PostingList... postingLists) {
+        // Intersecting from the shortest list bounds the work by its length
+        PostingList[] sortedLists = postingLists.clone();
+        Arrays.sort(sortedLists, (first, second) -> Integer.compare(first.size, second.size));
+
+        BitSet result = new BitSet();
+        PostingList shortest = sortedLists[0];
+        int[] positions = new int[sortedLists.length];
+        for (int i = 0; i < shortest.size; i++) {
+            int id = shortest.ids[i];
+            if (containsAll(sortedLists, positions, id)) {
+                result.set(id);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns true if all but the first of {@code lists} contain {@code id}, advancing {@code positions} past the ids
+     * smaller than {@code id}. Ids must be looked up in increasing order.
+     */
+    private static boolean containsAll(PostingList[] lists, int[] positions, int id) {
+        for (int j = 1; j < lists.length; j++) {
+            PostingList list = lists[j];
+            while (positions[j] < list.size && list.ids[positions[j]] < id) {
+                positions[j]++;
+            }
+            if (positions[j] == list.size || list.ids[positions[j]] != id) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,168 @@
+package seedu.address.model.person.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.person.Height;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Person.PersonAttribute;
+import seedu.address.model.person.weight.Weight;
+
+/**
+ * An index of the persons with a value for a numeric attribute, sorted by that value, so that the persons whose value
+ * falls within a range are found with two binary searches.
+ *
+ * The latest weight of a person is indexed for {@code WEIGHT}. Persons without weights, or without a height for
+ * {@code HEIGHT}, are left out, as they never fall within a range.
+ */
+class RangeIndex {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final PersonAttribute attribute;
+    private float[] values = new float[INITIAL_CAPACITY];
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int size;
+
+    RangeIndex(PersonAttribute attribute) {
+        requireNonNull(attribute);
+        assert attribute == PersonAttribute.WEIGHT || attribute == PersonAttribute.HEIGHT;
+        this.attribute = attribute;
+    }
+
+    /**
+     * Adds all {@code persons} with their ids at once, which is faster than adding them one by one.
+     * The index must be empty.
+     */
+    void addAll(Map<Person, Integer> persons) {
+        assert this.size == 0;
+        // Each value and id is packed into a long that sorts by value first, so that the pairs sort as primitives
+        long[] entries = new long[persons.size()];
+        int count = 0;
+        for (Map.Entry<Person, Integer> entry : persons.entrySet()) {
+            Optional<Float> value = this.getValue(entry.getKey());
+            if (value.isPresent()) {
+                entries[count++] = ((long) toSortableBits(value.get()) << Integer.SIZE)
+                        | (entry.getValue() & 0xFFFFFFFFL);
+            }
+        }
+        Arrays.sort(entries, 0, count);
+
+        this.values = new float[Math.max(INITIAL_CAPACITY, count)];
+        this.ids = new int[this.values.length];
+        for (int i = 0; i < count; i++) {
+            this.values[i] = fromSortableBits((int) (entries[i] >> Integer.SIZE));
+            this.ids[i] = (int) entries[i];
+        }
+        this.size = count;
+    }
+
+    /**
+     * Returns the bits of {@code value}, flipped so that they compare as signed integers in the order of the floats.
+     */
+    private static int toSortableBits(float value) {
+        int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> (Integer.SIZE - 1)) & Integer.MAX_VALUE);
+    }
+
+    private static float fromSortableBits(int sortableBits) {
+        return Float.intBitsToFloat(sortableBits ^ ((sortableBits >> (Integer.SIZE - 1)) & Integer.MAX_VALUE));
+    }
+
+    /**
+     * Adds the person with {@code id} at the position of its value.
+     */
+    void add(int id, Person person) {
+        Optional<Float> value = this.getValue(person);
+        if (value.isEmpty()) {
+            return;
+        }
+        float floatValue = value.get();
+        int position = this.upperBound(floatValue);
+        if (this.size == this.values.length) {
+            this.values = Arrays.copyOf(this.values, this.size * 2);
+            this.ids = Arrays.copyOf(this.ids, this.size * 2);
+        }
+        System.arraycopy(this.values, position, this.values, position + 1, this.size - position);
+        System.arraycopy(this.ids, position, this.ids, position + 1, this.size - position);
+        this.values[position] = floatValue;
+        this.ids[position] = id;
+        this.size++;
+    }
+
+    /**
+     * Removes the person with {@code id}, which must have been added with the same person.
+     */
+    void remove(int id, Person person) {
+        Optional<Float> value = this.getValue(person);
+        if (value.isEmpty()) {
+            return;
+        }
+        float floatValue = value.get();
+        for (int position = this.lowerBound(floatValue); position < this.size
+                && this.values[position] == floatValue; position++) {
+            if (this.ids[position] == id) {
+                System.arraycopy(this.values, position + 1, this.values, position, this.size - position - 1);
+                System.arraycopy(this.ids, position + 1, this.ids, position, this.size - position - 1);
+                this.size--;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the ids of the persons whose value is at least {@code min} and at most {@code max}.
+     */
+    BitSet find(float min, float max) {
+        BitSet result = new BitSet();
+        for (int position = this.lowerBound(min), end = this.upperBound(max); position < end; position++) {
+            result.set(this.ids[position]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the position of the first value that is at least {@code value}.
+     */
+    private int lowerBound(float value) {
+        int low = 0;
+        int high = this.size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this.values[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the first value that is more than {@code value}.
+     */
+    private int upperBound(float value) {
+        int low = 0;
+        int high = this.size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this.values[middle] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private Optional<Float> getValue(Person person) {
+        if (this.attribute == PersonAttribute.HEIGHT) {
+            Height height = person.getHeight();
+            return height.isZero() ? Optional.empty() : Optional.of(height.getValue());
+        }
+        return person.getLatestWeight().map(Map.Entry::getValue).map(Weight::getValue);
+    }
+}
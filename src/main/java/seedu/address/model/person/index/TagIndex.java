@@ -0,0 +1,71 @@
+package seedu.address.model.person.index;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index from each tag to a bitmap of the ids of the persons with that tag, so that the persons with several tags
+ * are found by intersecting bitmaps.
+ *
+ * Tags are matched ignoring case, like {@link Tag#isMatch(Object)}.
+ */
+class TagIndex {
+    private final Map<String, BitSet> postings = new HashMap<>();
+
+    /**
+     * Sets the bit of the person with {@code id} in the bitmaps of its tags.
+     */
+    void add(int id, Person person) {
+        for (Tag tag : person.getTags()) {
+            this.postings.computeIfAbsent(getKey(tag), unused -> new BitSet()).set(id);
+        }
+    }
+
+    /**
+     * Clears the bit of the person with {@code id} in the bitmaps of its tags.
+     */
+    void remove(int id, Person person) {
+        for (Tag tag : person.getTags()) {
+            String key = getKey(tag);
+            BitSet posting = this.postings.get(key);
+            if (posting == null) {
+                continue;
+            }
+            posting.clear(id);
+            if (posting.isEmpty()) {
+                this.postings.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the ids of the persons with all of {@code tags}, which must not be empty.
+     */
+    BitSet findAll(Set<Tag> tags) {
+        assert !tags.isEmpty();
+        BitSet result = null;
+        for (Tag tag : tags) {
+            BitSet posting = this.postings.get(getKey(tag));
+            if (posting == null) {
+                return new BitSet();
+            }
+            if (result == null) {
+                result = (BitSet) posting.clone();
+            } else {
+                result.and(posting);
+            }
+        }
+        return result;
+    }
+
+    private static String getKey(Tag tag) {
+        // Tag names are alphanumeric ASCII, so this agrees with equalsIgnoreCase
+        return tag.getValue().trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.model.person.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Person.PersonAttribute;
+import seedu.address.model.person.TextAttribute;
+
+/**
+ * An index from the trigrams, the substrings of three characters, of one attribute of persons to the ids of the
+ * persons whose attribute contains them.
+ *
+ * Attribute values are trimmed and converted to lower case first, as substring searches are case-insensitive.
+ */
+class TrigramIndex {
+    static final int GRAM_LENGTH = 3;
+
+    private final PersonAttribute attribute;
+    private final Map<String, PostingList> postings = new HashMap<>();
+
+    TrigramIndex(PersonAttribute attribute) {
+        requireNonNull(attribute);
+        this.attribute = attribute;
+    }
+
+    /**
+     * Adds the person with {@code id} to the posting lists of the trigrams of its attribute.
+     */
+    void add(int id, Person person) {
+        for (String trigram : getTrigrams(this.getKey(person))) {
+            this.postings.computeIfAbsent(trigram, unused -> new PostingList()).add(id);
+        }
+    }
+
+    /**
+     * Removes the person with {@code id} from the posting lists of the trigrams of its attribute.
+     */
+    void remove(int id, Person person) {
+        for (String trigram : getTrigrams(this.getKey(person))) {
+            PostingList postingList = this.postings.get(trigram);
+            if (postingList == null) {
+                continue;
+            }
+            postingList.remove(id);
+            if (postingList.isEmpty()) {
+                this.postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Returns true if searches for {@code query} can be narrowed down by this index.
+     * Queries shorter than a trigram can be contained in any value, so they are not.
+     */
+    static boolean canSearch(String query) {
+        return TextAttribute.toSearchKey(query).length() >= GRAM_LENGTH;
+    }
+
+    /**
+     * Returns the ids of the persons whose attribute contains all trigrams of {@code query}. This includes every
+     * person whose attribute contains {@code query}, but may include others, so each of them must still be tested.
+     * Returns an empty {@code Optional} if the query is too short to be searched with this index.
+     */
+    Optional<BitSet> findCandidates(String query) {
+        if (!canSearch(query)) {
+            return Optional.empty();
+        }
+
+        Set<String> trigrams = getTrigrams(TextAttribute.toSearchKey(query));
+        PostingList[] postingLists = new PostingList[trigrams.size()];
+        int i = 0;
+        for (String trigram : trigrams) {
+            PostingList postingList = this.postings.get(trigram);
+            if (postingList == null) {
+                return Optional.of(new BitSet());
+            }
+            postingLists[i++] = postingList;
+        }
+        return Optional.of(PostingList.intersect(postingLists));
+    }
+
+    private String getKey(Person person) {
+        return ((TextAttribute) person.getAttribute(this.attribute)).getSearchKey();
+    }
+
+    private static Set<String> getTrigrams(String key) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+            trigrams.add(key.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
@@ -1,12 +0,0 @@
-package seedu.address.model.person.messages;
-
-/**
- * Messages used by Person and associated classes.
- */
-public class PersonMessages {
-    public static final String MESSAGE_GENERATED_QR = "Generated QR code for ";
-    public static final String MESSAGE_DELETED_QR = "Deleted QR code for ";
-    public static final String MESSAGE_DOES_NOT_EXIST = "Unable to delete QR code for %1$s for as it does not exist";
-    public static final String MESSAGE_CANT_DELETE_QR = "Unable to delete QR code for %1$s";
-
-}
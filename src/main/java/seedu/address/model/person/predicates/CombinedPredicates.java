@@ -1,10 +1,14 @@
 package seedu.address.model.person.predicates;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PersonIndex;
 
 /**
  * Defines a Predicate which combines multiple {@code SearchPredicates}.
@@ -19,12 +23,51 @@ public class CombinedPredicates implements Predicate<Person> {
      */
     @SafeVarargs
     public CombinedPredicates(SearchPredicate<? extends Object>... predicates) {
-        this.predicates = predicates;
+        // Placeholders for attributes that are not searched never exclude anyone, so they are left out
+        this.predicates = Arrays.stream(predicates)
+                .filter(predicate -> !(predicate instanceof AlwaysTruePredicate))
+                .toArray(SearchPredicate<?>[]::new);
     }
 
     @Override
     public boolean test(Person person) {
-        return Arrays.stream(this.predicates).allMatch(predicate -> predicate.test(person));
+        for (SearchPredicate<?> predicate : this.predicates) {
+            if (!predicate.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a predicate equivalent to this one, which looks up the predicates combined in the indexes in
+     * {@code index} and tests the persons they find against the rest.
+     * Persons added to {@code index} later are not narrowed down, so the predicate stays correct as persons change.
+     */
+    public QueryPlan withIndex(PersonIndex index) {
+        return new QueryPlan(Arrays.asList(this.predicates), index, null);
+    }
+
+    /**
+     * Returns a predicate like {@link #withIndex(PersonIndex)}, which only considers the persons in {@code index}
+     * whose ids are in {@code previousResults}, such as the persons found by a search that this one refines.
+     *
+     * @see #isRefinementOf(CombinedPredicates)
+     */
+    public QueryPlan withIndex(PersonIndex index, BitSet previousResults) {
+        requireNonNull(previousResults);
+        return new QueryPlan(Arrays.asList(this.predicates), index, previousResults);
+    }
+
+    /**
+     * Returns true if every person that satisfies these predicates also satisfies {@code other}, as each of the
+     * predicates of {@code other} is refined by one of these, such as {@code n/ale} refining {@code n/al}.
+     */
+    public boolean isRefinementOf(CombinedPredicates other) {
+        requireNonNull(other);
+        return Arrays.stream(other.predicates).allMatch(otherPredicate -> Arrays.stream(this.predicates)
+                .anyMatch(predicate -> predicate.getClass() == otherPredicate.getClass()
+                        && predicate.isRefinementOf(otherPredicate)));
     }
 
     @Override
@@ -0,0 +1,168 @@
+package seedu.address.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.index.PersonIndex;
+
+/**
+ * A plan for finding the persons that satisfy all of a set of {@code SearchPredicates}.
+ *
+ * The indexes of the predicates that are cheapest to look up and most likely to be selective are looked up first,
+ * and their results are intersected into a set of candidates. Once only a few candidates are left, the rest of the
+ * predicates are tested on the candidates instead of being looked up. Each candidate is then tested against the
+ * predicates in order of the number of persons their indexes found, so that most persons fail on the first test.
+ */
+public class QueryPlan implements Predicate<Person> {
+    /**
+     * The number of candidates at or below which testing them is cheaper than looking up another index.
+     */
+    static final int FEW_CANDIDATES = 16;
+
+    private static final String MESSAGE_EXPLAIN_HEADER = "Searched %1$d clients in %2$d stage(s):";
+    private static final String MESSAGE_EXPLAIN_PREVIOUS_RESULTS =
+            "Refined the last search, which found %1$d client(s).";
+    private static final String MESSAGE_EXPLAIN_CANDIDATES = "Testing %1$d candidate(s).";
+    private static final String MESSAGE_EXPLAIN_NO_CANDIDATES = "No index lookups, so every client was tested.";
+    private static final String MESSAGE_EXPLAIN_STAGE = "%1$d. %2$s (%3$s): %4$d client(s) left";
+    private static final String MESSAGE_EXPLAIN_INDEX_FOUND = "index found %1$d";
+    private static final String MESSAGE_EXPLAIN_NOT_LOOKED_UP = "not looked up";
+    private static final String MESSAGE_EXPLAIN_NOT_INDEXED = "not indexed";
+
+    private final List<Stage> stages;
+    private final PersonIndex index;
+    private final BitSet candidates;
+    private final int previousResultCount;
+    private final int indexedIdLimit;
+
+    /**
+     * Plans a search for the persons in {@code index} that satisfy all of {@code predicates}, looking up their
+     * indexes in the process. If {@code previousResults} is not null, only the persons in {@code index} with those
+     * ids are considered, and indexes are only looked up if there are many of them.
+     * Persons added to {@code index} later are tested against every predicate, so the plan stays correct as persons
+     * change.
+     */
+    QueryPlan(List<SearchPredicate<?>> predicates, PersonIndex index, BitSet previousResults) {
+        requireNonNull(predicates);
+        requireNonNull(index);
+        this.index = index;
+        this.indexedIdLimit = index.getNextId();
+        this.stages = new ArrayList<>();
+
+        List<SearchPredicate<?>> predicatesByCost = new ArrayList<>(predicates);
+        predicatesByCost.sort(Comparator.comparingInt(SearchPredicate::getCost));
+        BitSet candidates = previousResults == null ? null : (BitSet) previousResults.clone();
+        this.previousResultCount = candidates == null ? -1 : candidates.cardinality();
+        for (SearchPredicate<?> predicate : predicatesByCost) {
+            if (candidates != null && candidates.cardinality() <= FEW_CANDIDATES) {
+                this.stages.add(new Stage(predicate, Stage.NOT_LOOKED_UP));
+                continue;
+            }
+            Optional<BitSet> predicateCandidates = predicate.findCandidates(index);
+            if (predicateCandidates.isEmpty()) {
+                this.stages.add(new Stage(predicate, Stage.NOT_INDEXED));
+                continue;
+            }
+            this.stages.add(new Stage(predicate, predicateCandidates.get().cardinality()));
+            if (candidates == null) {
+                candidates = predicateCandidates.get();
+            } else {
+                candidates.and(predicateCandidates.get());
+            }
+        }
+        this.candidates = candidates;
+
+        // Stages whose indexes found fewer persons are more likely to fail, and ties keep the order of their costs
+        this.stages.sort(Comparator.comparingInt(Stage::getEstimatedMatches));
+    }
+
+    @Override
+    public boolean test(Person person) {
+        if (this.candidates != null) {
+            int id = this.index.getId(person);
+            boolean isIndexed = id >= 0 && id < this.indexedIdLimit;
+            if (isIndexed && !this.candidates.get(id)) {
+                return false;
+            }
+        }
+        for (Stage stage : this.stages) {
+            if (!stage.predicate.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a description of this plan applied to {@code persons}, with the number of persons left after the
+     * index lookups and after each stage of testing.
+     */
+    public String explain(List<Person> persons) {
+        requireNonNull(persons);
+        List<Person> remaining = new ArrayList<>();
+        for (Person person : persons) {
+            int id = this.index.getId(person);
+            boolean isIndexed = id >= 0 && id < this.indexedIdLimit;
+            if (this.candidates == null || !isIndexed || this.candidates.get(id)) {
+                remaining.add(person);
+            }
+        }
+
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(MESSAGE_EXPLAIN_HEADER, persons.size(), this.stages.size()));
+        if (this.previousResultCount >= 0) {
+            lines.add(String.format(MESSAGE_EXPLAIN_PREVIOUS_RESULTS, this.previousResultCount));
+        }
+        lines.add(this.candidates == null
+                ? MESSAGE_EXPLAIN_NO_CANDIDATES
+                : String.format(MESSAGE_EXPLAIN_CANDIDATES, remaining.size()));
+        for (int i = 0; i < this.stages.size(); i++) {
+            Stage stage = this.stages.get(i);
+            remaining.removeIf(stage.predicate.negate());
+            lines.add(String.format(MESSAGE_EXPLAIN_STAGE, i + 1, stage.predicate.describe(),
+                    stage.describeLookup(), remaining.size()));
+        }
+        return String.join("\n", lines);
+    }
+
+    /**
+     * A predicate to test, with the number of persons its index found.
+     */
+    private static class Stage {
+        static final int NOT_INDEXED = -1;
+        static final int NOT_LOOKED_UP = -2;
+
+        private final SearchPredicate<?> predicate;
+        private final int indexMatches;
+
+        Stage(SearchPredicate<?> predicate, int indexMatches) {
+            this.predicate = predicate;
+            this.indexMatches = indexMatches;
+        }
+
+        /**
+         * Returns the number of persons estimated to satisfy the predicate, which is unknown without a lookup.
+         */
+        int getEstimatedMatches() {
+            return this.indexMatches < 0 ? Integer.MAX_VALUE : this.indexMatches;
+        }
+
+        String describeLookup() {
+            switch (this.indexMatches) {
+            case NOT_INDEXED:
+                return MESSAGE_EXPLAIN_NOT_INDEXED;
+            case NOT_LOOKED_UP:
+                return MESSAGE_EXPLAIN_NOT_LOOKED_UP;
+            default:
+                return String.format(MESSAGE_EXPLAIN_INDEX_FOUND, this.indexMatches);
+            }
+        }
+    }
+}
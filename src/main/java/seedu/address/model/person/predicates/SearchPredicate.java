@@ -1,21 +1,39 @@
 package seedu.address.model.person.predicates;
 
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Attribute;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Person.PersonAttribute;
+import seedu.address.model.person.TextAttribute;
+import seedu.address.model.person.index.PersonIndex;
 
 /**
  * Defines a Predicate in which a {@code Person}'s is to be searched by.
  */
 public abstract class SearchPredicate<T extends Object> implements Predicate<Person> {
+    /** Estimated costs of searching with a predicate, from the cheapest and usually most selective. */
+    protected static final int COST_TAGS = 0;
+    protected static final int COST_RANGE = 1;
+    protected static final int COST_SUBSTRING = 2;
+    protected static final int COST_LONG_SUBSTRING = 3;
+    protected static final int COST_ANY_VALUE = 4;
+
     private final T searchValue;
     private final PersonAttribute attribute;
+    // Normalized once, so that testing text attributes allocates nothing
+    private final String searchKey;
+    private final boolean isAnyValueSearch;
 
     protected SearchPredicate(T searchValue, PersonAttribute attribute) {
         this.searchValue = searchValue;
         this.attribute = attribute;
+        this.searchKey = searchValue instanceof String ? TextAttribute.toSearchKey((String) searchValue) : null;
+        this.isAnyValueSearch = searchValue.toString().isEmpty();
     }
 
     /**
@@ -27,14 +45,65 @@ public abstract class SearchPredicate<T extends Object> implements Predicate<Per
         return this.searchValue;
     }
 
+    /**
+     * Returns the ids of the persons in {@code index} that may satisfy this predicate, or an empty {@code Optional}
+     * if the index cannot narrow them down. Every person in the index that satisfies this predicate is included.
+     * The returned set is not used by the index, so it may be modified.
+     */
+    public Optional<BitSet> findCandidates(PersonIndex index) {
+        if (!(this.searchValue instanceof String) || this.searchValue.toString().isEmpty()) {
+            return Optional.empty();
+        }
+        return index.findSubstring(this.attribute, (String) this.searchValue);
+    }
+
+    /**
+     * Returns the estimated cost of looking this predicate up and testing it, relative to other predicates.
+     * Cheaper predicates are used first when searching.
+     */
+    protected int getCost() {
+        if (this.isAnyValueSearch) {
+            return COST_ANY_VALUE;
+        }
+        return this.attribute == PersonAttribute.ADDRESS || this.attribute == PersonAttribute.NOTE
+                ? COST_LONG_SUBSTRING
+                : COST_SUBSTRING;
+    }
+
+    /**
+     * Returns true if every person that satisfies this predicate also satisfies {@code other}, which must be of the
+     * same class, so that a search with this predicate only needs to test the persons found with {@code other}.
+     * Returning false is always correct, but makes such searches test every person.
+     */
+    protected boolean isRefinementOf(SearchPredicate<?> other) {
+        assert other.getClass() == this.getClass();
+        if (this.searchKey == null || other.searchKey == null) {
+            return false;
+        }
+        // Attributes are matched by case-insensitive substrings, so a value containing this one contains the other
+        return this.attribute == other.attribute && this.searchKey.contains(other.searchKey);
+    }
+
+    /**
+     * Returns a short description of what this predicate tests, for explaining searches to the user.
+     */
+    protected String describe() {
+        String attributeName = this.attribute.toString().toLowerCase(Locale.ROOT);
+        return this.isAnyValueSearch
+                ? attributeName + " has a value"
+                : attributeName + " contains \"" + this.searchValue + "\"";
+    }
+
     @Override
     public boolean test(Person person) {
-        String attributeString = person.getAttribute(this.attribute).toString();
+        Attribute<?> attributeValue = person.getAttribute(this.attribute);
 
-        if (searchValue.toString().isEmpty()) {
-            return !attributeString.isEmpty();
+        if (this.isAnyValueSearch) {
+            return !attributeValue.toString().isEmpty();
+        } else if (this.searchKey != null && attributeValue instanceof TextAttribute) {
+            return ((TextAttribute) attributeValue).containsSearchKey(this.searchKey);
         } else {
-            return person.getAttribute(this.attribute).isMatch(this.searchValue);
+            return attributeValue.isMatch(this.searchValue);
         }
     }
 
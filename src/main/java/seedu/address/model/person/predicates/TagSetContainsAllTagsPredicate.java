@@ -2,18 +2,24 @@ package seedu.address.model.person.predicates;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.BitSet;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Person.PersonAttribute;
+import seedu.address.model.person.index.PersonIndex;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Tests that a {@code Person}'s {@code TagSet} contains any tags in a given
  * TagSet.
  */
 public class TagSetContainsAllTagsPredicate extends SearchPredicate<Set<Tag>> {
+    private final boolean isAnyTagSearch;
+
     /**
      * Constructs a predicate to test that a {@code Person}'s {@code TagSet}
      * contains any tags in a given TagSet.
@@ -23,6 +29,8 @@ public class TagSetContainsAllTagsPredicate extends SearchPredicate<Set<Tag>> {
     public TagSetContainsAllTagsPredicate(Set<Tag> tags) {
         super(tags, PersonAttribute.TAGS);
         requireNonNull(tags);
+        // Checked once, instead of formatting the tags of every person tested
+        this.isAnyTagSearch = tags.toString().equals("[]");
     }
 
     @Override
@@ -30,14 +38,47 @@ public class TagSetContainsAllTagsPredicate extends SearchPredicate<Set<Tag>> {
         return new ToStringBuilder(this).add("tagset", this.getSearchValue()).toString();
     }
 
+    @Override
+    protected int getCost() {
+        Set<Tag> tags = this.getSearchValue();
+        return tags.isEmpty() || tags.equals(Tag.EMPTY_TAG_SET) ? COST_ANY_VALUE : COST_TAGS;
+    }
+
+    @Override
+    protected boolean isRefinementOf(SearchPredicate<?> other) {
+        Set<Tag> tags = this.getSearchValue();
+        Set<?> otherTags = (Set<?>) other.getSearchValue();
+        // Searching for the empty tag set finds every person with a tag, which includes those with any given tags
+        if (otherTags.isEmpty() || otherTags.equals(Tag.EMPTY_TAG_SET)) {
+            return true;
+        }
+        return otherTags.stream().allMatch(otherTag -> tags.stream()
+                .anyMatch(tag -> tag.isMatch(otherTag.toString())));
+    }
+
+    @Override
+    protected String describe() {
+        Set<Tag> tags = this.getSearchValue();
+        return tags.isEmpty() || tags.equals(Tag.EMPTY_TAG_SET) ? "tags have a value" : "tags include " + tags;
+    }
+
+    @Override
+    public Optional<BitSet> findCandidates(PersonIndex index) {
+        Set<Tag> tags = this.getSearchValue();
+        // Searching for the empty tag set finds every person with a tag, which the index does not narrow down
+        if (tags.isEmpty() || tags.equals(Tag.EMPTY_TAG_SET)) {
+            return Optional.empty();
+        }
+        return Optional.of(index.findTags(tags));
+    }
+
     @Override
     public boolean test(Person person) {
-        String attributeString = person.getAttribute(PersonAttribute.TAGS).toString();
-        String searchValue = getSearchValue().toString();
-        if (searchValue.toString().equals("[]")) {
-            return !attributeString.toString().equals("[]");
+        TagSet personTags = (TagSet) person.getAttribute(PersonAttribute.TAGS);
+        if (this.isAnyTagSearch) {
+            return !personTags.getValue().isEmpty();
         } else {
-            return person.getAttribute(PersonAttribute.TAGS).isMatch(getSearchValue());
+            return personTags.isMatch(getSearchValue());
         }
     }
 }
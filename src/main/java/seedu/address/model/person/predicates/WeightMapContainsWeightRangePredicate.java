@@ -2,9 +2,13 @@ package seedu.address.model.person.predicates;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.BitSet;
+import java.util.Optional;
+
 import javafx.util.Pair;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person.PersonAttribute;
+import seedu.address.model.person.index.PersonIndex;
 
 /**
  * Tests that a {@code Person}'s latest weight value in {@code WeightMap}
@@ -26,4 +30,28 @@ public class WeightMapContainsWeightRangePredicate extends SearchPredicate<Pair<
     public String toString() {
         return new ToStringBuilder(this).add("weightmap", this.getSearchValue()).toString();
     }
+
+    @Override
+    protected int getCost() {
+        return COST_RANGE;
+    }
+
+    @Override
+    protected boolean isRefinementOf(SearchPredicate<?> other) {
+        Pair<Float, Float> range = this.getSearchValue();
+        Pair<?, ?> otherRange = (Pair<?, ?>) other.getSearchValue();
+        return range.getKey() >= (Float) otherRange.getKey() && range.getValue() <= (Float) otherRange.getValue();
+    }
+
+    @Override
+    protected String describe() {
+        Pair<Float, Float> range = this.getSearchValue();
+        return "latest weight between " + range.getKey() + " and " + range.getValue();
+    }
+
+    @Override
+    public Optional<BitSet> findCandidates(PersonIndex index) {
+        Pair<Float, Float> range = this.getSearchValue();
+        return index.findRange(PersonAttribute.WEIGHT, range.getKey(), range.getValue());
+    }
 }
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.model.person.messages.WeightMessages.ASSERT_MESSAGE_RANGE;
 
 import javafx.util.Pair;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Attribute;
 
 /**
@@ -13,8 +14,6 @@ import seedu.address.model.person.Attribute;
 public class Weight extends Attribute<Float> {
     /** Represents a maximum value of a Weight. */
     public static final Float WEIGHT_MAX_VALUE = 5000f;
-    /** Regular expression to check for a valid weight value. */
-    public static final String VALIDATION_REGEX = "^(?:[0-9]+(?:\\.[0-9]*)?|\\.[0-9]+)?$";
 
     /**
      * Constructs a {@code Weight}.
@@ -33,7 +32,7 @@ public class Weight extends Attribute<Float> {
      * @return True if input is a valid weight, false otherwise.
      */
     public static boolean isValidWeight(String test) {
-        return test.matches(VALIDATION_REGEX) && Float.valueOf(test) <= WEIGHT_MAX_VALUE;
+        return StringUtil.isUnsignedDecimal(test) && Float.valueOf(test) <= WEIGHT_MAX_VALUE;
     }
 
     /**
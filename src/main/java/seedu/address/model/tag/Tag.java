@@ -6,6 +6,7 @@ import static seedu.address.model.person.messages.TagMessages.MESSAGE_CONSTRAINT
 import static seedu.address.model.person.messages.TagMessages.VALIDATION_REGEX;
 
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import seedu.address.model.person.Attribute;
 
@@ -15,9 +16,10 @@ import seedu.address.model.person.Attribute;
  * {@link #isValidTagName(String)}
  */
 public class Tag extends Attribute<String> {
-
     public static final Set<Tag> EMPTY_TAG_SET = Set.of(new Tag(false));
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     /**
      * Constructs a {@code Tag}.
      *
@@ -42,7 +44,7 @@ public class Tag extends Attribute<String> {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * File formats that address book data can be imported from and exported to.
+ */
+public enum AddressBookFileFormat {
+    JSON,
+    BINARY;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFileFormat.class);
+
+    private static final String JSON_EXTENSION = ".json";
+
+    /**
+     * Returns the format of the file at {@code filePath}.
+     * Files ending in {@code .json} are JSON; any other file is in FitBook's binary format.
+     */
+    public static AddressBookFileFormat of(Path filePath) {
+        requireNonNull(filePath);
+        Path fileName = filePath.getFileName();
+        boolean isJson = fileName != null && fileName.toString().toLowerCase(Locale.ROOT).endsWith(JSON_EXTENSION);
+        return isJson ? JSON : BINARY;
+    }
+
+    /**
+     * Returns the format of the address book data saved at {@code filePath}, from its content rather than its name.
+     * Data that starts with {@link BinaryAddressBookStorage#MAGIC} is in FitBook's binary format, including the
+     * generations saved by a memory-mapped {@link BinaryAddressBookStorage}. Data in any other format, or that is
+     * missing or cannot be read, is taken to be JSON.
+     */
+    public static AddressBookFileFormat detect(Path filePath) {
+        requireNonNull(filePath);
+        try {
+            Path dataFile = BinaryAddressBookStorage.getLatestGeneration(filePath);
+            if (!Files.exists(dataFile)) {
+                return JSON;
+            }
+            try (DataInputStream in = new DataInputStream(Files.newInputStream(dataFile))) {
+                return in.readInt() == BinaryAddressBookStorage.MAGIC ? BINARY : JSON;
+            }
+        } catch (EOFException e) {
+            return JSON;
+        } catch (IOException e) {
+            logger.warning("Could not detect the format of " + filePath + ", assuming JSON: " + e);
+            return JSON;
+        }
+    }
+
+    /**
+     * Returns a storage that reads and writes the file at {@code filePath} in this format.
+     */
+    public AddressBookStorage createStorage(Path filePath) {
+        switch (this) {
+        case JSON:
+            return new JsonAddressBookStorage(filePath);
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        default:
+            throw new AssertionError("Unknown file format: " + this);
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored in FitBook's compact binary format on the hard disk.
+ *
+ * The file starts with {@link #MAGIC} and a {@link #FORMAT_VERSION}, followed by a dictionary of the tag and
+ * exercise names used in the address book, and then the persons. The dictionary and the persons are each stored as
+ * a varint count followed by their entries; every person is a varint byte count followed by a record in the layout
+ * of {@link BinaryPersonCodec}, so that a reader can skip persons without decoding them.
+ *
+ * A memory-mapped storage maps the file instead of reading it. Every record is still validated when the file is read,
+ * but the persons it reads decode their weights and exercises from the mapping only when they are needed (see
+ * {@link MappedPersonRecords}). As those persons keep the mapping open, and some platforms cannot replace or delete a
+ * file while it is mapped, such a storage never replaces a file it has mapped. Saves then go to the next generation,
+ * stored next to the file as {@code <file name>.<generation>.gen}, and reads load the latest generation. Older
+ * generations are deleted once they are no longer mapped.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** Identifies a file in this format: the ASCII characters "FBIN". */
+    public static final int MAGIC = 0x4642494E;
+    /** Version of the layout written by this class. */
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_FORMAT = "File is not in FitBook's binary format.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "File format version %d is not supported.";
+    public static final String MESSAGE_TRAILING_BYTES = "Person record is longer than its content.";
+    public static final String MESSAGE_FILE_TOO_LARGE = "File is too large to be memory-mapped.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String GENERATION_SUFFIX = ".gen";
+
+    private Path filePath;
+    private final boolean isMemoryMapped;
+    // Absolute paths of the files mapped by this storage, which persons read from them may still refer to
+    private final Set<Path> mappedFiles = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructs a {@code BinaryAddressBookStorage} with the given file path.
+     * @param filePath The file path to store the binary formatted address book.
+     */
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs a {@code BinaryAddressBookStorage} with the given file path.
+     * @param filePath The file path to store the binary formatted address book.
+     * @param isMemoryMapped Whether files are memory-mapped, with weights and exercises decoded when needed.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isMemoryMapped) {
+        assert(filePath != null);
+        this.filePath = filePath;
+        this.isMemoryMapped = isMemoryMapped;
+    }
+
+    public Path getAddressBookFilePath() {
+        return this.filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(this.filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A memory-mapped storage reads the latest generation saved to {@code filePath}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Path dataFile;
+        try {
+            dataFile = this.isMemoryMapped ? getLatestGeneration(filePath) : filePath;
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        if (!Files.exists(dataFile)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + dataFile + " found.");
+
+        try {
+            if (!this.isMemoryMapped) {
+                return Optional.of(readFile(dataFile));
+            }
+            AddressBook addressBook = readMappedFile(dataFile);
+            this.mappedFiles.add(dataFile.toAbsolutePath());
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + dataFile + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + dataFile + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static AddressBook readFile(Path filePath) throws IOException, IllegalValueException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            List<String> dictionary = readHeader(in);
+            AddressBook addressBook = new AddressBook();
+            int personCount = BinaryPersonCodec.readLength(in);
+            for (int i = 0; i < personCount; i++) {
+                byte[] record = new byte[BinaryPersonCodec.readLength(in)];
+                in.readFully(record);
+                ByteArrayInputStream recordBytes = new ByteArrayInputStream(record);
+                Person person = BinaryPersonCodec.read(new DataInputStream(recordBytes), dictionary);
+                if (recordBytes.available() > 0) {
+                    throw new IllegalValueException(MESSAGE_TRAILING_BYTES);
+                }
+                addPerson(addressBook, person);
+            }
+            return addressBook;
+        }
+    }
+
+    private static AddressBook readMappedFile(Path filePath) throws IOException, IllegalValueException {
+        // The mapping stays valid after the channel is closed
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(MESSAGE_FILE_TOO_LARGE);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        DataInputStream in = new DataInputStream(new MappedPersonRecords.ByteBufferInputStream(buffer));
+        MappedPersonRecords records = new MappedPersonRecords(buffer, readHeader(in));
+        AddressBook addressBook = new AddressBook();
+        int personCount = BinaryPersonCodec.readLength(in);
+        for (int i = 0; i < personCount; i++) {
+            int length = BinaryPersonCodec.readLength(in);
+            int offset = buffer.position();
+            if (length > buffer.remaining()) {
+                throw new EOFException();
+            }
+            addPerson(addressBook, records.readPerson(offset, length));
+            buffer.position(offset + length);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads the magic number and version of a file, and returns its dictionary.
+     */
+    private static List<String> readHeader(DataInputStream in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        long version = BinaryPersonCodec.readVarLong(in);
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int dictionarySize = BinaryPersonCodec.readLength(in);
+        List<String> dictionary = new ArrayList<>();
+        for (int i = 0; i < dictionarySize; i++) {
+            dictionary.add(BinaryPersonCodec.readString(in));
+        }
+        return dictionary;
+    }
+
+    private static void addPerson(AddressBook addressBook, Person person) throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addPerson(person);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, this.filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The address book is written to a temporary file and forced to disk before it replaces the file at
+     * {@code filePath}. A memory-mapped storage replaces the latest generation saved to {@code filePath} instead,
+     * or saves a new generation if that one is mapped, and then deletes the older generations that are not mapped.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!this.isMemoryMapped) {
+            writeFile(addressBook.getPersonList(), filePath);
+            return;
+        }
+
+        TreeMap<Long, Path> generations = findGenerations(filePath);
+        long generation = 0;
+        if (!generations.isEmpty()) {
+            Map.Entry<Long, Path> latest = generations.lastEntry();
+            generation = isMapped(latest.getValue()) ? latest.getKey() + 1 : latest.getKey();
+        }
+        Path generationPath = getGenerationPath(filePath, generation);
+        writeFile(addressBook.getPersonList(), generationPath);
+
+        for (Path olderGeneration : generations.headMap(generation).values()) {
+            if (isMapped(olderGeneration)) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(olderGeneration);
+            } catch (IOException e) {
+                logger.info("Could not delete " + olderGeneration + ", retrying on the next save: " + e);
+            }
+        }
+    }
+
+    /**
+     * Writes {@code persons} to a temporary file, forces it to disk and moves it to {@code filePath}.
+     */
+    private static void writeFile(List<Person> persons, Path filePath) throws IOException {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Person person : persons) {
+            BinaryPersonCodec.addToDictionary(person, dictionary);
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + TEMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                        Channels.newOutputStream(channel)))) {
+            out.writeInt(MAGIC);
+            BinaryPersonCodec.writeVarLong(FORMAT_VERSION, out);
+
+            BinaryPersonCodec.writeVarLong(dictionary.size(), out);
+            for (String entry : dictionary.keySet()) {
+                BinaryPersonCodec.writeString(entry, out);
+            }
+
+            BinaryPersonCodec.writeVarLong(persons.size(), out);
+            ByteArrayOutputStream record = new ByteArrayOutputStream();
+            DataOutputStream recordOut = new DataOutputStream(record);
+            for (Person person : persons) {
+                record.reset();
+                BinaryPersonCodec.write(person, dictionary, recordOut);
+                BinaryPersonCodec.writeVarLong(record.size(), out);
+                record.writeTo(out);
+            }
+            out.flush();
+            channel.force(true);
+        }
+
+        FileUtil.moveReplacing(tempFile, filePath);
+    }
+
+    private boolean isMapped(Path file) {
+        return this.mappedFiles.contains(file.toAbsolutePath());
+    }
+
+    /**
+     * Returns the path at which generation {@code generation} of the data at {@code filePath} is saved by a
+     * memory-mapped storage. Generation 0 is {@code filePath} itself.
+     */
+    static Path getGenerationPath(Path filePath, long generation) {
+        if (generation == 0) {
+            return filePath;
+        }
+        return filePath.resolveSibling(filePath.getFileName() + "." + generation + GENERATION_SUFFIX);
+    }
+
+    /**
+     * Returns the latest existing generation of the data at {@code filePath}, or {@code filePath} if there is none.
+     */
+    static Path getLatestGeneration(Path filePath) throws IOException {
+        TreeMap<Long, Path> generations = findGenerations(filePath);
+        return generations.isEmpty() ? filePath : generations.lastEntry().getValue();
+    }
+
+    /**
+     * Returns the existing generations of the data at {@code filePath}, keyed by their generation.
+     */
+    private static TreeMap<Long, Path> findGenerations(Path filePath) throws IOException {
+        TreeMap<Long, Path> generations = new TreeMap<>();
+        if (Files.exists(filePath)) {
+            generations.put(0L, filePath);
+        }
+        Path folder = filePath.toAbsolutePath().getParent();
+        if (folder == null || !Files.isDirectory(folder)) {
+            return generations;
+        }
+
+        String prefix = filePath.getFileName() + ".";
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder, prefix + "*" + GENERATION_SUFFIX)) {
+            for (Path file : stream) {
+                String fileName = file.getFileName().toString();
+                String generation = fileName.substring(prefix.length(), fileName.length() - GENERATION_SUFFIX.length());
+                try {
+                    long parsedGeneration = Long.parseLong(generation);
+                    if (parsedGeneration > 0) {
+                        generations.put(parsedGeneration, filePath.resolveSibling(fileName));
+                    }
+                } catch (NumberFormatException e) {
+                    logger.fine("Ignoring unrecognised file " + file);
+                }
+            }
+        }
+        return generations;
+    }
+}
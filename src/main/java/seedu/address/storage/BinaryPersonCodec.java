@@ -0,0 +1,299 @@
+package seedu.address.storage;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.exercise.Exercise;
+import seedu.address.model.exercise.ExerciseSet;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.messages.WeightMessages;
+import seedu.address.model.person.weight.Weight;
+import seedu.address.model.person.weight.WeightMap;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Encodes a {@link Person} to and from the record layout used by {@link BinaryAddressBookStorage}.
+ *
+ * A record holds, in order: name, phone, email, address and note as strings, height as a float, the tags, the
+ * weights and the exercises. The fields shown in the person list come first, so that a reader can decode them without
+ * the weights and exercises that follow (see {@link MappedPersonRecords}). Strings are stored as a varint byte count
+ * followed by their UTF-8 bytes. Weights are stored as a varint count followed by, for each entry in date order, the
+ * zigzag varint difference in epoch seconds (UTC) from the previous entry (or from 0 for the first), a varint
+ * nanosecond adjustment and the value as a float.
+ * Tags and exercises are stored as a varint count followed by indexes into the file's string dictionary; exercises
+ * also store their sets, reps and break between sets as varints.
+ */
+class BinaryPersonCodec {
+
+    public static final String MESSAGE_INVALID_DICTIONARY_INDEX = "Record refers to a missing dictionary entry.";
+    public static final String MESSAGE_INVALID_LENGTH = "Record contains a negative length.";
+
+    private static final long MIN_EPOCH_SECOND = LocalDateTime.MIN.toEpochSecond(ZoneOffset.UTC);
+    private static final long MAX_EPOCH_SECOND = LocalDateTime.MAX.toEpochSecond(ZoneOffset.UTC);
+
+    private BinaryPersonCodec() {}
+
+    /**
+     * Adds the tag and exercise names of {@code person} to {@code dictionary}, each mapped to its index.
+     */
+    public static void addToDictionary(Person person, Map<String, Integer> dictionary) {
+        for (Tag tag : person.getTags()) {
+            dictionary.putIfAbsent(tag.getValue(), dictionary.size());
+        }
+        for (Exercise exercise : person.getExerciseSet().getValue()) {
+            dictionary.putIfAbsent(exercise.getName(), dictionary.size());
+        }
+    }
+
+    /**
+     * Writes {@code person} to {@code out}, referring to tag and exercise names by their index in {@code dictionary}.
+     */
+    public static void write(Person person, Map<String, Integer> dictionary, DataOutput out) throws IOException {
+        writeString(person.getName().getValue(), out);
+        writeString(person.getPhone().getValue(), out);
+        writeString(person.getEmail().getValue(), out);
+        writeString(person.getAddress().getValue(), out);
+        writeString(person.getNote().getValue(), out);
+        out.writeFloat(person.getHeight().getValue());
+
+        writeVarLong(person.getTags().size(), out);
+        for (Tag tag : person.getTags()) {
+            writeVarLong(dictionary.get(tag.getValue()), out);
+        }
+
+        NavigableMap<LocalDateTime, Weight> weights = person.getWeights();
+        writeVarLong(weights.size(), out);
+        long previousSecond = 0;
+        for (Map.Entry<LocalDateTime, Weight> entry : weights.entrySet()) {
+            long second = entry.getKey().toEpochSecond(ZoneOffset.UTC);
+            writeVarLong(zigzag(second - previousSecond), out);
+            writeVarLong(entry.getKey().getNano(), out);
+            out.writeFloat(entry.getValue().getValue());
+            previousSecond = second;
+        }
+
+        writeVarLong(person.getExerciseSet().getValue().size(), out);
+        for (Exercise exercise : person.getExerciseSet().getValue()) {
+            writeVarLong(dictionary.get(exercise.getName()), out);
+            writeVarLong(exercise.getSets(), out);
+            writeVarLong(exercise.getReps(), out);
+            writeVarLong(exercise.getBreakBetweenSets(), out);
+        }
+    }
+
+    /**
+     * Reads a person written by {@link #write} from {@code in}.
+     * Fields are validated with the same constraints as {@link JsonAdaptedPerson}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record.
+     */
+    public static Person read(DataInput in, List<String> dictionary) throws IOException, IllegalValueException {
+        Person summary = readSummary(in, dictionary);
+        WeightMap weights = readWeights(in);
+        ExerciseSet exerciseSet = readExercises(in, dictionary);
+        return new Person(summary.getName(), summary.getPhone(), summary.getEmail(), summary.getAddress(),
+                weights.getValue(), summary.getHeight(), summary.getNote(), summary.getTags(), exerciseSet);
+    }
+
+    /**
+     * Reads the fields of a record that come before its weights, returning them as a person without weights or
+     * exercises.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the fields.
+     */
+    public static Person readSummary(DataInput in, List<String> dictionary) throws IOException, IllegalValueException {
+        String name = readString(in);
+        String phone = readString(in);
+        String email = readString(in);
+        String address = readString(in);
+        String note = readString(in);
+        float height = in.readFloat();
+
+        int tagCount = readLength(in);
+        List<JsonAdaptedTag> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(readDictionaryEntry(in, dictionary)));
+        }
+
+        // These fields are few and short, so they reuse the validation of the JSON format
+        return new JsonAdaptedPerson(name, phone, email, address, Collections.emptyList(),
+                Float.toString(height), note, tags, Collections.emptyList()).toModelType();
+    }
+
+    /**
+     * Reads the weights of a record, which follow its summary.
+     *
+     * @throws IllegalValueException if any weight or date is invalid.
+     */
+    public static WeightMap readWeights(DataInput in) throws IOException, IllegalValueException {
+        NavigableMap<LocalDateTime, Weight> weights = new TreeMap<>();
+        int weightCount = readLength(in);
+        long second = 0;
+        for (int i = 0; i < weightCount; i++) {
+            second += unzigzag(readVarLong(in));
+            long nano = readVarLong(in);
+            float value = in.readFloat();
+            checkWeight(second, nano, value);
+            weights.put(LocalDateTime.ofEpochSecond(second, (int) nano, ZoneOffset.UTC), new Weight(value));
+        }
+        return new WeightMap(weights);
+    }
+
+    /**
+     * Reads the exercises of a record, which follow its weights.
+     *
+     * @throws IllegalValueException if any exercise is invalid.
+     */
+    public static ExerciseSet readExercises(DataInput in, List<String> dictionary)
+            throws IOException, IllegalValueException {
+        int exerciseCount = readLength(in);
+        Set<Exercise> exercises = new HashSet<>();
+        for (int i = 0; i < exerciseCount; i++) {
+            String exerciseName = readDictionaryEntry(in, dictionary);
+            int sets = readInt(in);
+            int reps = readInt(in);
+            int breakBetweenSets = readInt(in);
+            checkExercise(exerciseName, sets, reps, breakBetweenSets);
+            exercises.add(new Exercise(exerciseName, sets, reps, breakBetweenSets));
+        }
+        return new ExerciseSet(exercises);
+    }
+
+    /**
+     * Checks the weights and exercises of a record, which follow its summary, without building them.
+     * They are validated with the same constraints as {@link #readWeights} and {@link #readExercises}, so that reading
+     * them later cannot fail.
+     *
+     * @throws IllegalValueException if any weight, date or exercise is invalid.
+     */
+    public static void checkDetails(DataInput in, List<String> dictionary) throws IOException, IllegalValueException {
+        long second = 0;
+        for (int i = readLength(in); i > 0; i--) {
+            second += unzigzag(readVarLong(in));
+            checkWeight(second, readVarLong(in), in.readFloat());
+        }
+        for (int i = readLength(in); i > 0; i--) {
+            checkExercise(readDictionaryEntry(in, dictionary), readInt(in), readInt(in), readInt(in));
+        }
+    }
+
+    private static void checkWeight(long second, long nano, float value) throws IllegalValueException {
+        if (second < MIN_EPOCH_SECOND || second > MAX_EPOCH_SECOND || nano < 0 || nano > 999_999_999) {
+            throw new IllegalValueException(WeightMessages.MESSAGE_CONSTRAINTS_DATE);
+        }
+        if (!(value >= 0 && value <= Weight.WEIGHT_MAX_VALUE)) {
+            throw new IllegalValueException(WeightMessages.MESSAGE_CONSTRAINTS);
+        }
+    }
+
+    private static void checkExercise(String name, int sets, int reps, int breakBetweenSets)
+            throws IllegalValueException {
+        if (!Exercise.isValidName(name)) {
+            throw new IllegalValueException(Exercise.NAME_CONSTRAINT);
+        }
+        if (!Exercise.isValidSets(sets)) {
+            throw new IllegalValueException(Exercise.SETS_CONSTRAINT);
+        }
+        if (!Exercise.isValidReps(reps)) {
+            throw new IllegalValueException(Exercise.REPS_CONSTRAINT);
+        }
+        if (!Exercise.isValidBreakBetweenSets(breakBetweenSets)) {
+            throw new IllegalValueException(Exercise.BREAK_CONSTRAINT);
+        }
+    }
+
+    /**
+     * Writes {@code value} as a length-prefixed UTF-8 string.
+     */
+    public static void writeString(String value, DataOutput out) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length, out);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString}.
+     */
+    public static String readString(DataInput in) throws IOException, IllegalValueException {
+        byte[] bytes = new byte[readLength(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the non-negative {@code value} using 7 bits per byte, so that small values take a single byte.
+     */
+    public static void writeVarLong(long value, DataOutput out) throws IOException {
+        assert value >= 0;
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads a value written by {@link #writeVarLong}.
+     */
+    public static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length number.");
+    }
+
+    /**
+     * Reads a length written by {@link #writeVarLong}.
+     *
+     * @throws IllegalValueException if the length does not fit in an {@code int}.
+     */
+    public static int readLength(DataInput in) throws IOException, IllegalValueException {
+        long length = readVarLong(in);
+        if (length < 0 || length > Integer.MAX_VALUE) {
+            throw new IllegalValueException(MESSAGE_INVALID_LENGTH);
+        }
+        return (int) length;
+    }
+
+    private static int readInt(DataInput in) throws IOException {
+        return (int) readVarLong(in);
+    }
+
+    private static String readDictionaryEntry(DataInput in, List<String> dictionary)
+            throws IOException, IllegalValueException {
+        long index = readVarLong(in);
+        if (index < 0 || index >= dictionary.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_DICTIONARY_INDEX);
+        }
+        return dictionary.get((int) index);
+    }
+
+    /**
+     * Maps signed values to unsigned ones so that values close to zero stay small: 0, -1, 1, -2 become 0, 1, 2, 3.
+     */
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
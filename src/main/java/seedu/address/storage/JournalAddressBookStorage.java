@@ -0,0 +1,419 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal on the hard disk.
+ *
+ * Each save appends the person-level mutations since the previous save (add, set or remove person) to the journal
+ * instead of rewriting the whole address book. Once the journal grows past {@link #COMPACTION_THRESHOLD} entries, a
+ * new journal generation is started and the address book is compacted into a fresh snapshot in the background.
+ * Reading loads the snapshot and replays every journal generation the snapshot does not include yet.
+ *
+ * The snapshot is read and written by {@link JsonAddressBookStorage} at the given file path, with the journal
+ * generation from which replay continues, so it is streamed, forced to disk and backed up like a plain json save.
+ * Journal generations are stored next to it, as {@code <file name>.<generation>.journal}. The journal generations
+ * that the previous snapshot does not include are kept, so that falling back to that backup loses nothing.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    /** Number of journal entries after which the address book is compacted into a new snapshot. */
+    public static final int COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+
+    private final Path filePath;
+    private final JsonAddressBookStorage snapshotStorage;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Persons as of the last read or save; null if the files on disk are not known to match any address book.
+    private List<Person> savedPersons;
+    private long generation;
+    private int journalSize;
+    // Generation of the snapshot on disk, whose journal generations are kept after it is replaced by a new one.
+    private volatile long snapshotGeneration;
+
+    /**
+     * Constructs a {@code JournalAddressBookStorage} with the given file path.
+     * @param filePath The file path to store the json formatted snapshot of the address book.
+     */
+    public JournalAddressBookStorage(Path filePath) {
+        assert(filePath != null);
+        this.filePath = filePath;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return this.filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(this.filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        awaitCompaction();
+
+        TreeMap<Long, Path> journals;
+        try {
+            journals = findJournals(filePath);
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+
+        Optional<JsonAddressBookStorage.Snapshot> snapshot = this.snapshotStorage.readSnapshot(filePath);
+        if (!snapshot.isPresent() && journals.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long snapshotGeneration = snapshot.map(JsonAddressBookStorage.Snapshot::getGeneration).orElse(0L);
+        JournalReplay replay = new JournalReplay(snapshot.isPresent()
+                ? snapshot.get().getAddressBook().getPersonList()
+                : Collections.emptyList());
+
+        boolean isJournalIntact = true;
+        int lastJournalSize = 0;
+        for (Path journal : journals.tailMap(snapshotGeneration).values()) {
+            int appliedBefore = replay.getAppliedCount();
+            try {
+                isJournalIntact &= replayJournal(journal, replay);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journal + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            } catch (IOException ioe) {
+                throw new DataLoadingException(ioe);
+            }
+            lastJournalSize = replay.getAppliedCount() - appliedBefore;
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(replay.getPersons());
+
+        if (filePath.equals(this.filePath)) {
+            // A torn journal entry must not be followed by new entries, so the next save writes a new snapshot.
+            this.savedPersons = isJournalIntact ? new ArrayList<>(addressBook.getPersonList()) : null;
+            this.generation = journals.isEmpty()
+                    ? snapshotGeneration
+                    : Math.max(snapshotGeneration, journals.lastKey());
+            this.journalSize = lastJournalSize;
+            this.snapshotGeneration = snapshotGeneration;
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, this.filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a file path other than this storage's own writes a complete snapshot to that path instead.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            this.snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        Optional<List<JournalEntry>> entries = this.savedPersons == null
+                ? Optional.empty()
+                : findMutations(this.savedPersons, persons);
+        if (!entries.isPresent()) {
+            // The change cannot be journalled, so the snapshot has to be written before returning.
+            writeSnapshotNow(persons);
+        } else if (!entries.get().isEmpty()) {
+            try {
+                appendToJournal(entries.get());
+            } catch (IOException ioe) {
+                // The journal may now end with a partial entry, so the next save writes a new snapshot instead.
+                this.savedPersons = null;
+                throw ioe;
+            }
+            if (this.journalSize >= COMPACTION_THRESHOLD) {
+                scheduleSnapshot(persons);
+            }
+        }
+        this.savedPersons = persons;
+    }
+
+    /**
+     * Returns the journal entries that turn {@code before} into {@code after}, or {@code Optional.empty()} if
+     * {@code after} cannot be reached by appending, replacing and removing persons, e.g. if persons were reordered.
+     * Persons are compared by reference, since they are immutable.
+     */
+    static Optional<List<JournalEntry>> findMutations(List<Person> before, List<Person> after) {
+        Set<Person> beforeSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        beforeSet.addAll(before);
+        Set<Person> afterSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        afterSet.addAll(after);
+
+        List<JournalEntry> entries = new ArrayList<>();
+        int j = 0;
+        for (Person person : before) {
+            if (j < after.size() && after.get(j) == person) {
+                j++;
+            } else if (afterSet.contains(person)) {
+                return Optional.empty();
+            } else if (j < after.size() && !beforeSet.contains(after.get(j))) {
+                entries.add(JournalEntry.set(PersonIdentity.of(person), after.get(j)));
+                j++;
+            } else {
+                entries.add(JournalEntry.remove(PersonIdentity.of(person)));
+            }
+        }
+        for (; j < after.size(); j++) {
+            if (beforeSet.contains(after.get(j))) {
+                return Optional.empty();
+            }
+            entries.add(JournalEntry.add(after.get(j)));
+        }
+
+        // Entries are checked against a replay, since a replacement may clash with an identity removed after it.
+        if (!entries.isEmpty() && !isReplayOf(before, entries, after)) {
+            return Optional.empty();
+        }
+        return Optional.of(entries);
+    }
+
+    private static boolean isReplayOf(List<Person> before, List<JournalEntry> entries, List<Person> after) {
+        JournalReplay replay = new JournalReplay(before);
+        try {
+            for (JournalEntry entry : entries) {
+                replay.apply(entry);
+            }
+        } catch (IllegalValueException ive) {
+            return false;
+        }
+
+        List<Person> replayed = replay.getPersons();
+        if (replayed.size() != after.size()) {
+            return false;
+        }
+        for (int i = 0; i < replayed.size(); i++) {
+            if (replayed.get(i) != after.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void appendToJournal(List<JournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(new JsonAdaptedJournalEntry(entry))).append('\n');
+        }
+
+        Path journal = getJournalPath(this.filePath, this.generation);
+        FileUtil.createParentDirsOfFile(journal);
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        this.journalSize += entries.size();
+    }
+
+    /**
+     * Starts a new journal generation and compacts {@code persons} into a snapshot in the background.
+     */
+    private void scheduleSnapshot(List<Person> persons) {
+        long snapshotGeneration = ++this.generation;
+        this.journalSize = 0;
+        this.compactor.submit(() -> {
+            try {
+                writeSnapshot(persons, snapshotGeneration);
+            } catch (IOException ioe) {
+                // The journal generations are kept, so nothing is lost; the next compaction will try again.
+                logger.warning("Could not compact journal into " + this.filePath + ": " + ioe);
+            }
+        });
+    }
+
+    /**
+     * Starts a new journal generation and writes {@code persons} as its snapshot before returning.
+     * The snapshot is written by the compactor so that it cannot be overtaken by an earlier compaction.
+     */
+    private void writeSnapshotNow(List<Person> persons) throws IOException {
+        TreeMap<Long, Path> journals = findJournals(this.filePath);
+        if (!journals.isEmpty()) {
+            this.generation = Math.max(this.generation, journals.lastKey());
+        }
+        long snapshotGeneration = ++this.generation;
+        this.journalSize = 0;
+        try {
+            this.compactor.submit(() -> {
+                writeSnapshot(persons, snapshotGeneration);
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    /**
+     * Waits for snapshots that are being written in the background, so that their journal generations are not
+     * deleted while they are being read.
+     */
+    private void awaitCompaction() throws DataLoadingException {
+        try {
+            this.compactor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(e);
+        } catch (ExecutionException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Replaces the snapshot with {@code persons}, keeping the previous snapshot as its backup, and deletes the journal
+     * generations that both of them include.
+     */
+    private void writeSnapshot(List<Person> persons, long snapshotGeneration) throws IOException {
+        this.snapshotStorage.saveSnapshot(persons, snapshotGeneration, this.filePath);
+
+        long backupGeneration = this.snapshotGeneration;
+        this.snapshotGeneration = snapshotGeneration;
+        for (Path journal : findJournals(this.filePath).headMap(backupGeneration).values()) {
+            Files.deleteIfExists(journal);
+        }
+    }
+
+    /**
+     * Applies every entry in {@code journal} to {@code replay}.
+     * A final entry that cannot be parsed is taken to be a write that was cut short, and is skipped.
+     *
+     * @return true if every entry was applied, false if the final entry was skipped.
+     * @throws IllegalValueException if an entry is invalid or conflicts with the persons replayed so far.
+     */
+    private static boolean replayJournal(Path journal, JournalReplay replay)
+            throws IOException, IllegalValueException {
+        String pendingLine = null;
+        try (BufferedReader reader = Files.newBufferedReader(journal, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (pendingLine != null) {
+                    replay.apply(parseEntry(pendingLine));
+                }
+                pendingLine = line;
+            }
+        }
+
+        if (pendingLine == null) {
+            return true;
+        }
+        JournalEntry lastEntry;
+        try {
+            lastEntry = parseEntry(pendingLine);
+        } catch (IllegalValueException ive) {
+            logger.warning("Skipping incomplete entry at the end of " + journal + ": " + ive.getMessage());
+            return false;
+        }
+        replay.apply(lastEntry);
+        return true;
+    }
+
+    private static JournalEntry parseEntry(String line) throws IllegalValueException {
+        try {
+            return JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class).toModelType();
+        } catch (IOException ioe) {
+            throw new IllegalValueException(ioe.getMessage(), ioe);
+        }
+    }
+
+    /**
+     * Returns the journal generations stored next to {@code filePath}, keyed by generation.
+     */
+    private static TreeMap<Long, Path> findJournals(Path filePath) throws IOException {
+        TreeMap<Long, Path> journals = new TreeMap<>();
+        Path folder = filePath.toAbsolutePath().getParent();
+        if (folder == null || !Files.isDirectory(folder)) {
+            return journals;
+        }
+
+        String prefix = filePath.getFileName() + ".";
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder, prefix + "*" + JOURNAL_SUFFIX)) {
+            for (Path journal : stream) {
+                String fileName = journal.getFileName().toString();
+                String generation = fileName.substring(prefix.length(), fileName.length() - JOURNAL_SUFFIX.length());
+                try {
+                    journals.put(Long.parseLong(generation), journal);
+                } catch (NumberFormatException e) {
+                    logger.fine("Ignoring unrecognised file " + journal);
+                }
+            }
+        }
+        return journals;
+    }
+
+    private static Path getJournalPath(Path filePath, long generation) {
+        return filePath.resolveSibling(filePath.getFileName() + "." + generation + JOURNAL_SUFFIX);
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
+
+/**
+ * Represents a single person-level mutation recorded in the address book journal.
+ * Guarantees: immutable.
+ */
+class JournalEntry {
+
+    /**
+     * Mutations that can be recorded in the journal.
+     */
+    enum Operation {
+        ADD,
+        SET,
+        REMOVE
+    }
+
+    private final Operation operation;
+    private final PersonIdentity target;
+    private final Person person;
+
+    private JournalEntry(Operation operation, PersonIdentity target, Person person) {
+        this.operation = operation;
+        this.target = target;
+        this.person = person;
+    }
+
+    /**
+     * Returns an entry that appends {@code person} to the address book.
+     */
+    static JournalEntry add(Person person) {
+        return new JournalEntry(Operation.ADD, null, person);
+    }
+
+    /**
+     * Returns an entry that replaces the person identified by {@code target} with {@code person}.
+     */
+    static JournalEntry set(PersonIdentity target, Person person) {
+        return new JournalEntry(Operation.SET, target, person);
+    }
+
+    /**
+     * Returns an entry that removes the person identified by {@code target}.
+     */
+    static JournalEntry remove(PersonIdentity target) {
+        return new JournalEntry(Operation.REMOVE, target, null);
+    }
+
+    Operation getOperation() {
+        return this.operation;
+    }
+
+    /**
+     * Returns the identity of the person affected by this entry, or null for {@link Operation#ADD}.
+     */
+    PersonIdentity getTarget() {
+        return this.target;
+    }
+
+    /**
+     * Returns the person written by this entry, or null for {@link Operation#REMOVE}.
+     */
+    Person getPerson() {
+        return this.person;
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
+
+/**
+ * Applies {@code JournalEntry} mutations to a list of persons.
+ * Entries are applied the same way {@link seedu.address.model.person.UniquePersonList} applies them: an added
+ * person is appended, a replaced person keeps its position and a removed person is dropped.
+ */
+class JournalReplay {
+
+    public static final String MESSAGE_DUPLICATE_PERSON = "Journal entry would result in duplicate person: %s";
+    public static final String MESSAGE_MISSING_PERSON = "Journal entry refers to a missing person: %s";
+
+    // Removed persons are left as null so that the positions held in the index stay valid.
+    private final List<Person> persons;
+    private final Map<PersonIdentity, Integer> positions = new HashMap<>();
+    private int appliedCount;
+
+    /**
+     * Constructs a {@code JournalReplay} starting from the given {@code persons}.
+     */
+    JournalReplay(List<Person> persons) {
+        requireNonNull(persons);
+        this.persons = new ArrayList<>(persons);
+        for (int i = 0; i < this.persons.size(); i++) {
+            this.positions.put(PersonIdentity.of(this.persons.get(i)), i);
+        }
+    }
+
+    /**
+     * Applies {@code entry} to the persons held by this replay.
+     *
+     * @throws IllegalValueException if the entry conflicts with the persons held by this replay.
+     */
+    void apply(JournalEntry entry) throws IllegalValueException {
+        switch (entry.getOperation()) {
+        case ADD:
+            checkNotPresent(PersonIdentity.of(entry.getPerson()));
+            this.positions.put(PersonIdentity.of(entry.getPerson()), this.persons.size());
+            this.persons.add(entry.getPerson());
+            break;
+        case SET:
+            int position = takePosition(entry.getTarget());
+            checkNotPresent(PersonIdentity.of(entry.getPerson()));
+            this.positions.put(PersonIdentity.of(entry.getPerson()), position);
+            this.persons.set(position, entry.getPerson());
+            break;
+        case REMOVE:
+            this.persons.set(takePosition(entry.getTarget()), null);
+            break;
+        default:
+            throw new AssertionError(entry.getOperation());
+        }
+        this.appliedCount++;
+    }
+
+    /**
+     * Returns the number of entries applied so far.
+     */
+    int getAppliedCount() {
+        return this.appliedCount;
+    }
+
+    /**
+     * Returns the persons held by this replay, in address book order.
+     */
+    List<Person> getPersons() {
+        return this.persons.stream().filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    private int takePosition(PersonIdentity identity) throws IllegalValueException {
+        Integer position = this.positions.remove(identity);
+        if (position == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_PERSON, identity));
+        }
+        return position;
+    }
+
+    private void checkNotPresent(PersonIdentity identity) throws IllegalValueException {
+        if (this.positions.containsKey(identity)) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_PERSON, identity));
+        }
+    }
+}
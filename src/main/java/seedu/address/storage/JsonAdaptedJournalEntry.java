@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.messages.NameMessages;
+import seedu.address.model.person.messages.PhoneMessages;
+
+/**
+ * Jackson-friendly version of {@link JournalEntry}.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_OPERATION = "Journal entry has an unknown operation: %s";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+
+    private final String operation;
+    private final String name;
+    private final String phone;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") String operation, @JsonProperty("name") String name,
+                                   @JsonProperty("phone") String phone,
+                                   @JsonProperty("person") JsonAdaptedPerson person) {
+        this.operation = operation;
+        this.name = name;
+        this.phone = phone;
+        this.person = person;
+    }
+
+    /**
+     * Converts a given {@code JournalEntry} into this class for Jackson use.
+     */
+    public JsonAdaptedJournalEntry(JournalEntry source) {
+        this.operation = source.getOperation().name();
+        PersonIdentity target = source.getTarget();
+        this.name = target == null ? null : target.getName().getValue();
+        this.phone = target == null ? null : target.getPhone().getValue();
+        this.person = source.getPerson() == null ? null : new JsonAdaptedPerson(source.getPerson());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted journal entry into a {@code JournalEntry}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted entry.
+     */
+    public JournalEntry toModelType() throws IllegalValueException {
+        if (this.operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+
+        JournalEntry.Operation modelOperation;
+        try {
+            modelOperation = JournalEntry.Operation.valueOf(this.operation);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OPERATION, this.operation));
+        }
+
+        switch (modelOperation) {
+        case ADD:
+            return JournalEntry.add(toModelPerson());
+        case SET:
+            return JournalEntry.set(toModelTarget(), toModelPerson());
+        case REMOVE:
+            return JournalEntry.remove(toModelTarget());
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_OPERATION, this.operation));
+        }
+    }
+
+    private Person toModelPerson() throws IllegalValueException {
+        if (this.person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return this.person.toModelType();
+    }
+
+    private PersonIdentity toModelTarget() throws IllegalValueException {
+        if (this.name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        }
+        if (!Name.isValidName(this.name)) {
+            throw new IllegalValueException(NameMessages.MESSAGE_CONSTRAINTS);
+        }
+        if (this.phone == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
+        }
+        if (!Phone.isValidPhone(this.phone)) {
+            throw new IllegalValueException(PhoneMessages.MESSAGE_CONSTRAINTS);
+        }
+        return new PersonIdentity(new Name(this.name), new Phone(this.phone));
+    }
+}
@@ -3,22 +3,49 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file has the layout of {@link JsonSerializableAddressBook}, but is read in batches of persons and written one
+ * person at a time, so at most {@link #READ_BATCH_SIZE} {@link JsonAdaptedPerson}s are held in memory besides the
+ * address book itself. Each batch is converted to the model in parallel.
+ * The previous save is kept next to the file, and is read instead if the file is missing or cannot be loaded.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    /** Number of persons parsed before they are converted to the model together. */
+    static final int READ_BATCH_SIZE = 1024;
+    /** Field holding the journal generation of a snapshot written by {@link JournalAddressBookStorage}. */
+    static final String GENERATION_FIELD = "generation";
+
+    private static final String LOAD_TIME_FORMAT = "Loaded %d persons from %s in %.3f ms";
+    private static final String PERSONS_FIELD = "persons";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String BACKUP_SUFFIX = ".bak";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
@@ -48,22 +75,104 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return readSnapshot(filePath).map(Snapshot::getAddressBook);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path)}, but also returns the journal generation the address book was saved
+     * at, which is 0 for files not written by {@link JournalAddressBookStorage}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    Optional<Snapshot> readSnapshot(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        Path backupFile = getBackupPath(filePath);
+        try {
+            Optional<Snapshot> snapshot = readSnapshotFile(filePath);
+            if (snapshot.isPresent() || !Files.exists(backupFile)) {
+                return snapshot;
+            }
+            logger.warning(filePath + " is missing, falling back to the previous save in " + backupFile);
+        } catch (DataLoadingException e) {
+            if (!Files.exists(backupFile)) {
+                throw e;
+            }
+            logger.warning(filePath + " could not be loaded, falling back to the previous save in " + backupFile);
+        }
+        return readSnapshotFile(backupFile);
+    }
+
+    /**
+     * Reads the address book stored in {@code filePath}, without falling back to the previous save.
+     */
+    private static Optional<Snapshot> readSnapshotFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        long startTime = System.nanoTime();
+        try (JsonParser parser = JsonUtil.createParser(Files.newInputStream(filePath))) {
+            Snapshot snapshot = readSnapshot(parser);
+            logger.info(String.format(LOAD_TIME_FORMAT, snapshot.getAddressBook().getPersonList().size(), filePath,
+                    (System.nanoTime() - startTime) / 1e6));
+            return Optional.of(snapshot);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         }
     }
 
+    /**
+     * Reads an address book from {@code parser}, converting each batch of persons as soon as it has been parsed.
+     * Duplicate persons are only looked for once all persons have been converted.
+     * Fields other than the persons and the journal generation are skipped.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IOException if the content is not a JSON object.
+     */
+    private static Snapshot readSnapshot(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        long generation = 0;
+        List<Person> persons = new ArrayList<>();
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            JsonToken valueToken = parser.nextToken();
+            if (GENERATION_FIELD.equals(parser.getCurrentName()) && valueToken != JsonToken.VALUE_NULL) {
+                if (valueToken != JsonToken.VALUE_NUMBER_INT) {
+                    throw new JsonParseException(parser, "Expected a journal generation");
+                }
+                generation = parser.getLongValue();
+                continue;
+            }
+            if (!PERSONS_FIELD.equals(parser.getCurrentName()) || valueToken == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (valueToken != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of persons");
+            }
+
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+                if (batch.size() == READ_BATCH_SIZE) {
+                    persons.addAll(JsonSerializableAddressBook.toModelPersons(batch));
+                    batch.clear();
+                }
+            }
+        }
+        persons.addAll(JsonSerializableAddressBook.toModelPersons(batch));
+        return new Snapshot(JsonSerializableAddressBook.toAddressBook(persons), generation);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, this.filePath);
@@ -71,15 +180,82 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The address book is written to a temporary file and forced to disk before it replaces the file at
+     * {@code filePath}, which is kept as the previous save. A crash while saving therefore never leaves a
+     * partially written file behind.
      *
      * @param filePath location of the data. Cannot be null.
      */
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         requireNonNull(addressBook);
+        saveSnapshot(addressBook.getPersonList(), 0, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook, Path)}, but saves {@code persons} as a snapshot of
+     * {@link JournalAddressBookStorage} at journal {@code generation}. A generation of 0 is not written, so that
+     * the file is the same as a plain save.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    void saveSnapshot(List<Person> persons, long generation, Path filePath) throws IOException {
+        requireNonNull(persons);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + TEMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+                JsonGenerator generator = JsonUtil.createGenerator(Channels.newOutputStream(channel))) {
+            generator.writeStartObject();
+            if (generation != 0) {
+                generator.writeNumberField(GENERATION_FIELD, generation);
+            }
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : persons) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.flush();
+            channel.force(true);
+        }
+
+        if (FileUtil.isFileExists(filePath)) {
+            FileUtil.moveReplacing(filePath, getBackupPath(filePath));
+        }
+        FileUtil.moveReplacing(tempFile, filePath);
+    }
+
+    /**
+     * Returns the path at which the previous save to {@code filePath} is kept.
+     */
+    static Path getBackupPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + BACKUP_SUFFIX);
+    }
+
+    /**
+     * An address book read from a file, with the journal generation it was saved at.
+     */
+    static class Snapshot {
+        private final AddressBook addressBook;
+        private final long generation;
+
+        Snapshot(AddressBook addressBook, long generation) {
+            this.addressBook = addressBook;
+            this.generation = generation;
+        }
+
+        AddressBook getAddressBook() {
+            return this.addressBook;
+        }
+
+        /**
+         * Returns the first journal generation that is not included in this snapshot.
+         */
+        long getGeneration() {
+            return this.generation;
+        }
     }
 
 }
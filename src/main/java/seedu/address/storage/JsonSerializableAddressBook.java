@@ -1,8 +1,10 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -12,6 +14,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -21,6 +24,9 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    /** Number of persons below which converting them in parallel costs more than it saves. */
+    static final int PARALLEL_THRESHOLD = 64;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -46,13 +52,52 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : this.persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        return toAddressBook(toModelPersons(this.persons));
+    }
+
+    /**
+     * Converts {@code adaptedPersons} into the model's {@code Person} objects, in the same order.
+     * The persons are independent of each other, so large lists are converted in parallel on the common fork-join
+     * pool.
+     *
+     * @throws IllegalValueException if any person violates a data constraint. If several do, the error of the first
+     *     such person in {@code adaptedPersons} is thrown.
+     */
+    static List<Person> toModelPersons(List<JsonAdaptedPerson> adaptedPersons) throws IllegalValueException {
+        int size = adaptedPersons.size();
+        Person[] persons = new Person[size];
+        IllegalValueException[] errors = new IllegalValueException[size];
+        IntStream indexes = IntStream.range(0, size);
+        if (size >= PARALLEL_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            try {
+                persons[i] = adaptedPersons.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                errors[i] = ive;
             }
-            addressBook.addPerson(person);
+        });
+
+        for (IllegalValueException error : errors) {
+            if (error != null) {
+                throw error;
+            }
+        }
+        return Arrays.asList(persons);
+    }
+
+    /**
+     * Returns an address book containing {@code persons}, checking for duplicates in a single pass.
+     *
+     * @throws IllegalValueException if two persons have the same identity.
+     */
+    static AddressBook toAddressBook(List<Person> persons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON, e);
         }
         return addressBook;
     }
@@ -0,0 +1,157 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.exercise.ExerciseSet;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.weight.WeightMap;
+
+/**
+ * Person records of a memory-mapped file in the layout of {@link BinaryAddressBookStorage}.
+ *
+ * Persons read from here hold only the fields shown in the person list. Their weights and exercises are validated
+ * without being built when the record is read, and are decoded from the mapped file when they are first needed. The
+ * most recently used ones are kept in a bounded cache. Person equality and hashing compare exercises, so they decode
+ * them too, and must be kept off the path that loads the records.
+ */
+class MappedPersonRecords {
+
+    /** Number of persons whose weights and exercises are kept after they are decoded. */
+    public static final int DETAILS_CACHE_CAPACITY = 256;
+
+    public static final String MESSAGE_INVALID_DETAILS = "Person record contains invalid weights or exercises: %1$s";
+
+    private final ByteBuffer buffer;
+    private final List<String> dictionary;
+    private final Map<Integer, PersonDetails> detailsCache =
+            new LinkedHashMap<>(DETAILS_CACHE_CAPACITY, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, PersonDetails> eldest) {
+                    return size() > DETAILS_CACHE_CAPACITY;
+                }
+            };
+
+    /**
+     * Constructs records backed by {@code buffer}, whose tag and exercise names refer to {@code dictionary}.
+     */
+    public MappedPersonRecords(ByteBuffer buffer, List<String> dictionary) {
+        requireNonNull(buffer);
+        requireNonNull(dictionary);
+        this.buffer = buffer;
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Reads the person whose record of {@code length} bytes starts at {@code offset}.
+     * The fields before its weights are validated and kept. The weights and exercises are validated too, but are
+     * only decoded when they are first needed.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record.
+     */
+    public Person readPerson(int offset, int length) throws IOException, IllegalValueException {
+        ByteBuffer record = slice(offset, offset + length);
+        DataInputStream in = new DataInputStream(new ByteBufferInputStream(record));
+        Person summary = BinaryPersonCodec.readSummary(in, this.dictionary);
+
+        int detailsOffset = record.position();
+        BinaryPersonCodec.checkDetails(in, this.dictionary);
+        if (record.hasRemaining()) {
+            throw new IllegalValueException(BinaryAddressBookStorage.MESSAGE_TRAILING_BYTES);
+        }
+
+        int end = offset + length;
+        return new Person(summary.getName(), summary.getPhone(), summary.getEmail(), summary.getAddress(),
+                () -> getDetails(detailsOffset, end).weights, summary.getHeight(), summary.getNote(),
+                summary.getTags(), () -> getDetails(detailsOffset, end).exerciseSet);
+    }
+
+    /**
+     * Returns the number of persons whose weights and exercises are currently cached.
+     */
+    public synchronized int getCachedDetailsCount() {
+        return this.detailsCache.size();
+    }
+
+    private synchronized PersonDetails getDetails(int detailsOffset, int end) {
+        PersonDetails details = this.detailsCache.get(detailsOffset);
+        if (details == null) {
+            details = readDetails(detailsOffset, end);
+            this.detailsCache.put(detailsOffset, details);
+        }
+        return details;
+    }
+
+    /**
+     * Decodes the weights and exercises of a record, which were validated when the record was read.
+     *
+     * @throws IllegalStateException if they are no longer valid, which means the mapped file was changed since.
+     */
+    private PersonDetails readDetails(int detailsOffset, int end) {
+        DataInputStream in = new DataInputStream(new ByteBufferInputStream(slice(detailsOffset, end)));
+        try {
+            WeightMap weights = BinaryPersonCodec.readWeights(in);
+            ExerciseSet exerciseSet = BinaryPersonCodec.readExercises(in, this.dictionary);
+            return new PersonDetails(weights, exerciseSet);
+        } catch (IOException | IllegalValueException e) {
+            throw new IllegalStateException(String.format(MESSAGE_INVALID_DETAILS, e.getMessage()), e);
+        }
+    }
+
+    private ByteBuffer slice(int start, int end) {
+        ByteBuffer slice = this.buffer.duplicate();
+        slice.limit(end);
+        slice.position(start);
+        return slice;
+    }
+
+    /**
+     * Weights and exercises decoded from a person record.
+     */
+    private static class PersonDetails {
+        private final WeightMap weights;
+        private final ExerciseSet exerciseSet;
+
+        PersonDetails(WeightMap weights, ExerciseSet exerciseSet) {
+            this.weights = weights;
+            this.exerciseSet = exerciseSet;
+        }
+    }
+
+    /**
+     * Reads the remaining bytes of a buffer, advancing its position.
+     */
+    static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!this.buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, this.buffer.remaining());
+            this.buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,15 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Sets the handler notified of errors from address book saves that are written in the background.
+     * Errors from such saves cannot be thrown to the caller, who has already moved on.
+     */
+    void setSaveErrorHandler(Consumer<IOException> saveErrorHandler);
+
+    /**
+     * Blocks until every address book save made so far has been written.
+     */
+    void flush();
+
 }
@@ -2,17 +2,30 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * In write-behind mode, address book saves are handed to a single background writer and return immediately.
+ * Saves to the same file that arrive while an earlier one is still pending are merged into one write.
  */
 public class StorageManager implements Storage {
 
@@ -20,12 +33,34 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    /** Background writer for write-behind saves, or null if saves are written synchronously. */
+    private final ExecutorService writer;
+    /** Latest snapshot waiting to be written for each file path. */
+    private final Map<Path, ReadOnlyAddressBook> pendingSaves = new HashMap<>();
+    private Consumer<IOException> saveErrorHandler = e -> { };
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Address book saves are written synchronously.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     *
+     * @param isWriteBehind whether address book saves are written by a background writer.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            boolean isWriteBehind) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.writer = isWriteBehind ? Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -61,6 +96,7 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
+        awaitPendingSaves();
         return this.addressBookStorage.readAddressBook(filePath);
     }
 
@@ -71,8 +107,70 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        this.addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (this.writer == null) {
+            logger.fine("Attempting to write to data file: " + filePath);
+            this.addressBookStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        // Persons are immutable, so copying the list is enough to take a snapshot that later commands cannot change.
+        // It is only read by the writer, so it is not built into an AddressBook here, on the command's thread.
+        ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(List.copyOf(addressBook.getPersonList())));
+        ReadOnlyAddressBook snapshot = () -> persons;
+        synchronized (this.pendingSaves) {
+            boolean isWriteScheduled = this.pendingSaves.put(filePath, snapshot) != null;
+            if (!isWriteScheduled) {
+                this.writer.execute(() -> writePendingSave(filePath));
+            }
+        }
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> saveErrorHandler) {
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    @Override
+    public void flush() {
+        logger.fine("Flushing pending writes to data files");
+        awaitPendingSaves();
+    }
+
+    /**
+     * Writes the latest snapshot saved to {@code filePath}, reporting any error to the save error handler.
+     */
+    private void writePendingSave(Path filePath) {
+        ReadOnlyAddressBook snapshot;
+        synchronized (this.pendingSaves) {
+            snapshot = this.pendingSaves.remove(filePath);
+        }
+
+        try {
+            logger.fine("Attempting to write to data file: " + filePath);
+            this.addressBookStorage.saveAddressBook(snapshot, filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to write to data file " + filePath + ": " + StringUtil.getDetails(e));
+            this.saveErrorHandler.accept(e);
+        }
+    }
+
+    /**
+     * Blocks until every save handed to the background writer so far has been written.
+     */
+    private void awaitPendingSaves() {
+        if (this.writer == null) {
+            return;
+        }
+
+        try {
+            // The writer runs one task at a time in order, so this finishes after every earlier save
+            this.writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail.", e);
+        }
     }
 
 }
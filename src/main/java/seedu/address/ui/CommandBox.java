@@ -1,13 +1,16 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.messages.FindCommandMessages;
 import seedu.address.logic.messages.NoteCommandMessages;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -16,24 +19,56 @@ public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    private static final String LIVE_SEARCH_COMMAND_PREFIX = FindCommandMessages.COMMAND_WORD + " ";
+    private static final Duration LIVE_SEARCH_DELAY = Duration.millis(250);
 
     private final CommandExecutor commandExecutor;
+    private final CommandExecutor liveSearchExecutor;
+    private final PauseTransition liveSearchDelay = new PauseTransition(LIVE_SEARCH_DELAY);
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}s.
+     *
+     * @param commandExecutor executes the commands entered
+     * @param liveSearchExecutor executes find commands while they are typed, before they are entered
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandExecutor liveSearchExecutor) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.liveSearchExecutor = liveSearchExecutor;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        this.commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            scheduleLiveSearch(newText);
+        });
+        this.liveSearchDelay.setOnFinished(unused -> handleLiveSearch());
+    }
+
+    /**
+     * Searches for {@code commandText} once the user stops typing, if it is a find command.
+     * Each change restarts the delay, so a search is only executed for the text the user pauses at.
+     */
+    private void scheduleLiveSearch(String commandText) {
+        if (commandText.stripLeading().startsWith(LIVE_SEARCH_COMMAND_PREFIX)) {
+            this.liveSearchDelay.playFromStart();
+        } else {
+            this.liveSearchDelay.stop();
+        }
+    }
+
+    /**
+     * Executes the find command in the command box without clearing it, and ignores commands that are incomplete.
+     */
+    private void handleLiveSearch() {
+        this.liveSearchExecutor.execute(this.commandTextField.getText());
     }
 
     /**
      * Handles the Enter button pressed event.
+     * The command is executed in the background, so the command box stays responsive while it runs.
      */
     @FXML
     private void handleCommandEntered() {
@@ -41,16 +76,20 @@ public class CommandBox extends UiPart<Region> {
         if (commandText.equals("")) {
             return;
         }
+        this.liveSearchDelay.stop();
 
-        try {
-            CommandResult result = this.commandExecutor.execute(commandText);
-            // Do not clear if the user is editing a note
-            if (!result.getFeedbackToUser().contains(NoteCommandMessages.MESSAGE_EDIT_FEEDBACK_TO_USER)) {
+        this.commandExecutor.execute(commandText).whenComplete((result, error) -> {
+            // Leave the command box alone if the user has changed it while the command was executed
+            if (!this.commandTextField.getText().equals(commandText)) {
+                return;
+            }
+            if (error != null) {
+                setStyleToIndicateCommandFailure();
+            } else if (!result.getFeedbackToUser().contains(NoteCommandMessages.MESSAGE_EDIT_FEEDBACK_TO_USER)) {
+                // Do not clear if the user is editing a note
                 this.commandTextField.setText("");
             }
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        });
     }
 
     /**
@@ -88,11 +127,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command in the background and returns a future that completes with the result, or
+         * exceptionally if the command fails, on the JavaFX application thread.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#executeInBackground(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
     /**
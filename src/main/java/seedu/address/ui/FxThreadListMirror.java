@@ -0,0 +1,58 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an observable list that is only modified on the JavaFX application thread.
+ *
+ * Commands modify the lists of the model on a background thread, but controls may only observe lists that change on
+ * the JavaFX application thread. Each change to the source list is copied when it happens and replayed on the mirror
+ * later, in the same order and with the same granularity, so listeners of the mirror see the same changes.
+ */
+public class FxThreadListMirror {
+
+    private FxThreadListMirror() {}
+
+    /**
+     * Returns a mirror of {@code source}, which must not be modified while the mirror is created.
+     */
+    public static <T> ObservableList<T> of(ObservableList<T> source) {
+        requireNonNull(source);
+        ObservableList<T> mirror = FXCollections.observableArrayList(source);
+        source.addListener((ListChangeListener<T>) change -> {
+            List<Runnable> updates = new ArrayList<>();
+            while (change.next()) {
+                int from = change.getFrom();
+                if (change.wasPermutated()) {
+                    List<T> permutedItems = new ArrayList<>(change.getList().subList(from, change.getTo()));
+                    updates.add(() -> {
+                        mirror.subList(from, from + permutedItems.size()).clear();
+                        mirror.addAll(from, permutedItems);
+                    });
+                    continue;
+                }
+                int removedSize = change.getRemovedSize();
+                List<T> addedItems = new ArrayList<>(change.getAddedSubList());
+                updates.add(() -> {
+                    if (removedSize > 0) {
+                        mirror.subList(from, from + removedSize).clear();
+                    }
+                    if (!addedItems.isEmpty()) {
+                        mirror.addAll(from, addedItems);
+                    }
+                });
+            }
+            // Always queued, so that the changes are replayed in order even if some happen on the JavaFX thread
+            Platform.runLater(() -> updates.forEach(Runnable::run));
+        });
+        return FXCollections.unmodifiableObservableList(mirror);
+    }
+}
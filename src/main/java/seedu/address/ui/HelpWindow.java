@@ -27,11 +27,13 @@ public class HelpWindow extends UiPart<Stage> {
             { "delete", "Deletes the specified client from FitBook." },
             { "edit", "Edits an existing client in FitBook." },
             { "exit", "Exits FitBook." },
+            { "export", "Exports all clients to a JSON (.json) or compact binary file." },
             { "find", "Finds all clients whose specified attribute contains the specified keyword"
                     + " (Uses name attribute if none specified)." },
             { "fitadd", "Adds exercise(s) to an existing client in FitBook." },
             { "fitdelete", "Deletes exercise(s) from an existing client in FitBook." },
             { "help", "Shows this window." },
+            { "import", "Replaces all clients with the clients in a JSON (.json) or compact binary file." },
             { "list", "Shows a list of all clients saved in FitBook." },
             { "note", "Adds a new note to a client." },
             { "weight", "Adds a new weight value to a client." },
@@ -1,10 +1,13 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -18,8 +21,6 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
 
 /**
@@ -41,6 +42,9 @@ public class MainWindow extends UiPart<Stage> {
     private HelpWindow helpWindow;
     private PersonDetailsPanel personDetailsPanel;
     private CommandBox commandBox;
+    private StatusBarFooter statusBarFooter;
+    // Only accessed on the JavaFX application thread
+    private int pendingCommandCount = 0;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -143,7 +147,9 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        this.personListPanel = new PersonListPanel(this.logic.getFilteredPersonList());
+        // Commands change the person list on a background thread, so the UI shows a copy updated on the JavaFX thread
+        ObservableList<Person> displayedPersons = FxThreadListMirror.of(this.logic.getFilteredPersonList());
+        this.personListPanel = new PersonListPanel(displayedPersons);
 
         // Update the details panel when a Person in the list is selected.
         this.personListPanel.addListener((observable, oldValue, newValue) -> {
@@ -156,7 +162,7 @@ public class MainWindow extends UiPart<Stage> {
         });
 
         // Update the details panel when the currently displayed Person is updated.
-        this.logic.getFilteredPersonList().addListener((ListChangeListener<? super Person>) c -> {
+        displayedPersons.addListener((ListChangeListener<? super Person>) c -> {
             while (c.next()) {
                 // adding and editing of clients
                 if (c.wasAdded()) {
@@ -179,14 +185,16 @@ public class MainWindow extends UiPart<Stage> {
 
         this.resultDisplay = new ResultDisplay();
         this.resultDisplayPlaceholder.getChildren().add(this.resultDisplay.getRoot());
+        this.logic.setSaveErrorHandler(message -> Platform.runLater(() ->
+                this.resultDisplay.setFeedbackToUser(message)));
 
-        this.personDetailsPanel = new PersonDetailsPanel();
+        this.personDetailsPanel = new PersonDetailsPanel(this.logic::getQrCode);
         this.personDetailsPanelPlaceholder.getChildren().add(this.personDetailsPanel.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(this.logic.getAddressBookFilePath());
-        this.statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        this.statusBarFooter = new StatusBarFooter(this.logic.getAddressBookFilePath());
+        this.statusbarPlaceholder.getChildren().add(this.statusBarFooter.getRoot());
 
-        this.commandBox = new CommandBox(this::executeCommand);
+        this.commandBox = new CommandBox(this::executeCommand, this::executeLiveSearch);
         this.commandBoxPlaceholder.getChildren().add(this.commandBox.getRoot());
     }
 
@@ -242,13 +250,24 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background and returns a future that completes with the result, once it has been
+     * shown, on the JavaFX application thread. Commands are executed and shown in the order they were entered.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeInBackground(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = this.logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        this.statusBarFooter.setPendingCommandCount(++this.pendingCommandCount);
+
+        CompletableFuture<CommandResult> shownResult = new CompletableFuture<>();
+        this.logic.executeInBackground(commandText).whenComplete((commandResult, error) -> Platform.runLater(() -> {
+            this.statusBarFooter.setPendingCommandCount(--this.pendingCommandCount);
+            if (error != null) {
+                this.logger.info("An error occurred while executing command: " + commandText);
+                this.resultDisplay.setFeedbackToUser(error.getMessage());
+                shownResult.completeExceptionally(error);
+                return;
+            }
+
             this.logger.info("Result: " + commandResult.getFeedbackToUser());
             this.resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -260,12 +279,28 @@ public class MainWindow extends UiPart<Stage> {
                 handleExit();
             }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            this.logger.info("An error occurred while executing command: " + commandText);
-            this.resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+            shownResult.complete(commandResult);
+        }));
+        return shownResult;
+    }
+
+    /**
+     * Executes the find command being typed in the background and shows its result, but not its errors, as the
+     * command may still be incomplete. Its future completes on the JavaFX application thread.
+     *
+     * @see seedu.address.logic.Logic#executeInBackground(String)
+     */
+    private CompletableFuture<CommandResult> executeLiveSearch(String commandText) {
+        CompletableFuture<CommandResult> shownResult = new CompletableFuture<>();
+        this.logic.executeInBackground(commandText).whenComplete((commandResult, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                shownResult.completeExceptionally(error);
+                return;
+            }
+            this.resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            shownResult.complete(commandResult);
+        }));
+        return shownResult;
     }
 
     /**
@@ -274,13 +309,25 @@ public class MainWindow extends UiPart<Stage> {
      * @param text The text to be filled in the commandBox.
      */
     public void setCommandBoxText(String text) {
-        this.commandBox.setText(text);
+        runOnFxThread(() -> this.commandBox.setText(text));
     }
 
     /**
      * Moves the cursor of the command box to the end.
      */
     public void moveCommandBoxCursorToEnd() {
-        this.commandBox.moveCursorToEnd();
+        runOnFxThread(() -> this.commandBox.moveCursorToEnd());
+    }
+
+    /**
+     * Runs {@code runnable} on the JavaFX application thread, as commands that change the UI are executed on a
+     * background thread.
+     */
+    private static void runOnFxThread(Runnable runnable) {
+        if (Platform.isFxApplicationThread()) {
+            runnable.run();
+        } else {
+            Platform.runLater(runnable);
+        }
     }
 }
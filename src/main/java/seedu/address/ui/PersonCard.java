@@ -1,8 +1,12 @@
 package seedu.address.ui;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.FlowPane;
@@ -13,9 +17,16 @@ import seedu.address.model.tag.Tag;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ *
+ * A card can be reused to display other persons, so that a list cell loads its FXML only once.
  */
 public class PersonCard extends UiPart<Region> {
 
+    /**
+     * The height of every card, as fixed in {@code PersonListCard.fxml}.
+     */
+    public static final double HEIGHT = 70.0;
+
     private static final String FXML = "PersonListCard.fxml";
 
     /**
@@ -28,7 +39,7 @@ public class PersonCard extends UiPart<Region> {
      *      issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -49,19 +60,55 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private Label note;
 
+    /**
+     * Creates an empty {@code PersonCard} that displays a person once {@link #setPerson(Person, int)} is called.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to
      * display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        this.setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return this.person;
+    }
+
+    /**
+     * Displays the given {@code Person} and index in this card, in place of the person displayed before.
+     */
+    public void setPerson(Person person, int displayedIndex) {
         this.person = person;
         // Set fields with information from the person
         this.id.setText(displayedIndex + ". ");
         this.name.setText(person.getName().toString());
         this.phone.setText(person.getPhone().toString());
-        person.getTags().stream()
-                .sorted(Comparator.comparing(Tag::toString))
-                .forEach(tag -> this.tags.getChildren().add(new Label(tag.toString())));
+        this.setTags(person.getTags().stream()
+                .map(Tag::toString)
+                .sorted(Comparator.naturalOrder())
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Displays {@code tagNames}, reusing the tag labels already in the card.
+     */
+    private void setTags(List<String> tagNames) {
+        ObservableList<Node> tagLabels = this.tags.getChildren();
+        if (tagLabels.size() > tagNames.size()) {
+            tagLabels.subList(tagNames.size(), tagLabels.size()).clear();
+        }
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (i < tagLabels.size()) {
+                ((Label) tagLabels.get(i)).setText(tagNames.get(i));
+            } else {
+                tagLabels.add(new Label(tagNames.get(i)));
+            }
+        }
     }
 }
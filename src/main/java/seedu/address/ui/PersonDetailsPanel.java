@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Comparator;
@@ -7,9 +8,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -89,13 +92,18 @@ public class PersonDetailsPanel extends UiPart<Region> {
      */
     private Person person;
 
+    private final QrCodeImageCache qrCodeImages;
+
     /**
      * Creates a new PersonDetailsPanel and clears all fields.
      * Labels in the {@code .FXML} file contain text with the field name for
      * convenience.
+     *
+     * @param qrCodeProvider provides the QR code of each displayed person.
      */
-    public PersonDetailsPanel() {
+    public PersonDetailsPanel(QrCodeProvider qrCodeProvider) {
         super(FXML);
+        this.qrCodeImages = new QrCodeImageCache(qrCodeProvider);
         this.clear();
     }
 
@@ -148,6 +156,7 @@ public class PersonDetailsPanel extends UiPart<Region> {
      * Clears all fields
      */
     public void clear() {
+        this.person = null;
         this.name.setText("");
         this.phone.setText("");
         this.address.setText("");
@@ -273,8 +282,25 @@ public class PersonDetailsPanel extends UiPart<Region> {
                 .forEach(tag -> this.tags.getChildren().add(new Label(tag.toString())));
     }
 
+    /**
+     * Shows the QR code of the person once it is available, unless another person is displayed by then.
+     */
     private void updateQrCode() {
-        this.qrcode.setImage(new Image(this.person.getQrCodePath().toUri().toString()));
+        Person displayedPerson = this.person;
+        CompletableFuture<Image> image = this.qrCodeImages.getImage(displayedPerson);
+        if (image.isDone() && !image.isCompletedExceptionally()) {
+            this.qrcode.setImage(image.join());
+            return;
+        }
+
+        this.qrcode.setImage(null);
+        image.whenComplete((loadedImage, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                logger.warning("Unable to display QR code of " + displayedPerson + ": " + error);
+            } else if (this.person == displayedPerson) {
+                this.qrcode.setImage(loadedImage);
+            }
+        }));
     }
 
     private void updateTabView() {
@@ -433,6 +459,19 @@ public class PersonDetailsPanel extends UiPart<Region> {
         this.weightChart.requestLayout();
     }
 
+    /**
+     * Represents a function that provides the QR code of a person.
+     */
+    @FunctionalInterface
+    public interface QrCodeProvider {
+        /**
+         * Returns a future that completes with the path of the QR code of {@code person}.
+         *
+         * @see seedu.address.logic.Logic#getQrCode(Person)
+         */
+        CompletableFuture<Path> getQrCode(Person person);
+    }
+
     private ScrollPane generateExercisesScrollPane() {
         // Initialize exercises box
         this.exercisesBox = new VBox();
@@ -27,6 +27,8 @@ public class PersonListPanel extends UiPart<Region> {
     public PersonListPanel(ObservableList<Person> personList) {
         super(FXML);
         this.personListView.setItems(personList);
+        // Cards have a fixed height, so scrolling does not need to lay out every cell to measure it
+        this.personListView.setFixedCellSize(PersonCard.HEIGHT);
         this.personListView.setCellFactory(listView -> new PersonListViewCell());
     }
 
@@ -43,8 +45,12 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * The list view only creates enough cells to fill the panel, and each cell reuses its card for every person it
+     * displays as the list is scrolled.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -53,7 +59,11 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (this.personCard == null) {
+                    this.personCard = new PersonCard();
+                }
+                this.personCard.setPerson(person, getIndex() + 1);
+                setGraphic(this.personCard.getRoot());
             }
         }
     }
@@ -0,0 +1,116 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Logger;
+
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.QrCodeGenerator;
+import seedu.address.model.person.Person;
+import seedu.address.ui.PersonDetailsPanel.QrCodeProvider;
+
+/**
+ * Keeps the most recently displayed QR code images in memory, so that selecting a person again does not read and
+ * decode their QR code file again.
+ *
+ * Images are keyed by the content of the QR code, so persons with the same vCard share an image. QR codes can also be
+ * rendered straight into a {@code WritableImage} without touching the disk; this is done when a QR code file cannot
+ * be generated or read.
+ */
+public class QrCodeImageCache {
+    /**
+     * The number of images kept in memory. A 200 by 200 QR code image takes about 160 KB.
+     */
+    public static final int CAPACITY = 64;
+
+    private static final int DARK_COLOUR = 0xFF000000;
+    private static final int LIGHT_COLOUR = 0xFFFFFFFF;
+
+    private static final Logger logger = LogsCenter.getLogger(QrCodeImageCache.class);
+
+    private final QrCodeProvider qrCodeProvider;
+    private final Map<String, Image> images = new LinkedHashMap<>(CAPACITY, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Image> eldest) {
+            return size() > CAPACITY;
+        }
+    };
+
+    /**
+     * Creates a {@code QrCodeImageCache} that loads the QR code files provided by {@code qrCodeProvider}.
+     */
+    public QrCodeImageCache(QrCodeProvider qrCodeProvider) {
+        requireNonNull(qrCodeProvider);
+        this.qrCodeProvider = qrCodeProvider;
+    }
+
+    /**
+     * Returns a future that completes with the QR code image of {@code person}.
+     * The future is already complete if the image is cached; otherwise the image is loaded on a background thread.
+     */
+    public CompletableFuture<Image> getImage(Person person) {
+        requireNonNull(person);
+        String key = QrCodeGenerator.getQrCodeFileName(person);
+        Image cachedImage = this.getCachedImage(key);
+        if (cachedImage != null) {
+            return CompletableFuture.completedFuture(cachedImage);
+        }
+
+        return this.qrCodeProvider.getQrCode(person)
+                .thenApplyAsync(path -> new Image(path.toUri().toString()))
+                .thenApply(image -> image.isError() ? renderImage(person) : image)
+                .exceptionally(e -> {
+                    logger.warning("Unable to load QR code file of " + person + ", rendering it in memory: " + e);
+                    return renderImage(person);
+                })
+                .thenApply(image -> {
+                    this.putImage(key, image);
+                    return image;
+                });
+    }
+
+    private synchronized Image getCachedImage(String key) {
+        return this.images.get(key);
+    }
+
+    private synchronized void putImage(String key, Image image) {
+        this.images.put(key, image);
+    }
+
+    /**
+     * Renders the QR code of {@code person} into an image, without saving it.
+     */
+    public static WritableImage renderImage(Person person) {
+        try {
+            return renderImage(QrCodeGenerator.encodeQrCode(person));
+        } catch (WriterException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Renders {@code bitMatrix} into an image with one pixel per module.
+     */
+    public static WritableImage renderImage(BitMatrix bitMatrix) {
+        int width = bitMatrix.getWidth();
+        int height = bitMatrix.getHeight();
+        WritableImage image = new WritableImage(width, height);
+        PixelWriter pixelWriter = image.getPixelWriter();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                pixelWriter.setArgb(x, y, bitMatrix.get(x, y) ? DARK_COLOUR : LIGHT_COLOUR);
+            }
+        }
+        return image;
+    }
+}
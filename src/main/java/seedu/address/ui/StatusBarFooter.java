@@ -5,6 +5,7 @@ import java.nio.file.Paths;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 
 /**
@@ -13,9 +14,14 @@ import javafx.scene.layout.Region;
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final String BUSY_STATUS_FORMAT = "Executing %d command(s)...";
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private HBox busyStatus;
+    @FXML
+    private Label busyStatusText;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
@@ -25,4 +31,12 @@ public class StatusBarFooter extends UiPart<Region> {
         this.saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows that {@code pendingCommandCount} commands are waiting for or being executed, hiding the indicator if
+     * there are none.
+     */
+    public void setPendingCommandCount(int pendingCommandCount) {
+        this.busyStatus.setVisible(pendingCommandCount > 0);
+        this.busyStatusText.setText(String.format(BUSY_STATUS_FORMAT, pendingCommandCount));
+    }
 }
@@ -1,31 +1,93 @@
 package seedu.address;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 
+import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
 
 import seedu.address.logic.QrCodeGenerator;
+import seedu.address.model.exercise.Exercise;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 class QrCodeGeneratorTest {
 
     @Test
     void generateQrCode_validPerson_success() throws IOException, WriterException {
         QrCodeGenerator.generateQrCode(ALICE);
-        assertTrue(ALICE.getQrCodePath().toFile().exists());
+        assertTrue(QrCodeGenerator.getQrCodePath(ALICE).toFile().exists());
+    }
+
+    @Test
+    void generateQrCode_severalPersons_readablePngs(@TempDir Path folder) throws IOException, WriterException {
+        // Persons with different QR codes are drawn into the same reused image buffer
+        for (Person person : Arrays.asList(ALICE, BENSON)) {
+            Path path = folder.resolve(QrCodeGenerator.getQrCodeFileName(person));
+            QrCodeGenerator.generateQrCode(person, path);
+
+            BufferedImage image = ImageIO.read(path.toFile());
+            assertNotNull(image);
+            BitMatrix bitMatrix = QrCodeGenerator.encodeQrCode(person);
+            for (int y = 0; y < bitMatrix.getHeight(); y++) {
+                for (int x = 0; x < bitMatrix.getWidth(); x++) {
+                    int expectedRgb = bitMatrix.get(x, y) ? 0xFF000000 : 0xFFFFFFFF;
+                    assertEquals(expectedRgb, image.getRGB(x, y));
+                }
+            }
+        }
+
+        // The temporary files the images were written to were moved into place
+        try (Stream<Path> files = Files.list(folder)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void encodeQrCode_validPerson_nothingWritten() throws WriterException {
+        Person person = new PersonBuilder(ALICE).withNote("Not written").build();
+        BitMatrix bitMatrix = QrCodeGenerator.encodeQrCode(person);
+        assertEquals(200, bitMatrix.getWidth());
+        assertEquals(200, bitMatrix.getHeight());
+        assertFalse(QrCodeGenerator.getQrCodePath(person).toFile().exists());
     }
 
     @Test
     void getQrCodePath_validPerson_success() {
         Path path = QrCodeGenerator.getQrCodePath(ALICE);
-        String expected = Paths.get(QrCodeGenerator.QR_CODE_FOLDER.toString(), ALICE.hashCode() + ".png").toString();
-        assertEquals(expected, path.toString());
+        Path expected = QrCodeGenerator.QR_CODE_FOLDER.resolve(QrCodeGenerator.getQrCodeFileName(ALICE));
+        assertEquals(expected, path);
+    }
+
+    @Test
+    void getQrCodeFileName_sameVCard_sameFileName() {
+        String fileName = QrCodeGenerator.getQrCodeFileName(ALICE);
+        assertTrue(fileName.matches("[0-9a-f]{64}\\.png"));
+
+        // Tags, exercises and weights are not in the vCard
+        Person editedAlice = new PersonBuilder(ALICE).withTags("gym").withExercises(new Exercise("squats", 3, 10, 60))
+                .withWeights("2023-01-01T07:30:00=60.5f").build();
+        assertEquals(fileName, QrCodeGenerator.getQrCodeFileName(editedAlice));
+
+        // Every field in the vCard changes the file name
+        assertNotEquals(fileName, QrCodeGenerator.getQrCodeFileName(new PersonBuilder(ALICE).withNote("New").build()));
+        assertNotEquals(fileName, QrCodeGenerator.getQrCodeFileName(
+                new PersonBuilder(ALICE).withPhone("91234567").build()));
     }
 }
@@ -45,6 +45,35 @@ public class StringUtilTest {
         assertTrue(StringUtil.isNonZeroUnsignedInteger("10"));
     }
 
+    //---------------- Tests for isUnsignedDecimal --------------------------------------
+
+    @Test
+    public void isUnsignedDecimal() {
+        // EP: empty strings
+        assertTrue(StringUtil.isUnsignedDecimal("")); // Boundary value
+        assertFalse(StringUtil.isUnsignedDecimal("  "));
+
+        // EP: not a number
+        assertFalse(StringUtil.isUnsignedDecimal("a"));
+        assertFalse(StringUtil.isUnsignedDecimal("1e3"));
+        assertFalse(StringUtil.isUnsignedDecimal("."));
+
+        // EP: signed numbers
+        assertFalse(StringUtil.isUnsignedDecimal("-1"));
+        assertFalse(StringUtil.isUnsignedDecimal("+1"));
+
+        // EP: numbers with white space or several decimal points
+        assertFalse(StringUtil.isUnsignedDecimal(" 10 "));
+        assertFalse(StringUtil.isUnsignedDecimal("1.2.3"));
+
+        // EP: valid numbers, should return true
+        assertTrue(StringUtil.isUnsignedDecimal("0"));
+        assertTrue(StringUtil.isUnsignedDecimal("70"));
+        assertTrue(StringUtil.isUnsignedDecimal("70."));
+        assertTrue(StringUtil.isUnsignedDecimal("70.5"));
+        assertTrue(StringUtil.isUnsignedDecimal(".5"));
+    }
+
 
     //---------------- Tests for containsWordIgnoreCase --------------------------------------
 
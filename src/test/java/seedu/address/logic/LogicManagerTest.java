@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
@@ -13,6 +14,8 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -86,6 +89,55 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandWithoutModification_skipsSave() throws Exception {
+        setUpStorageThrowing(DUMMY_IO_EXCEPTION);
+
+        // The list command leaves the address book unchanged, so the failing save is never reached
+        assertCommandSuccess(ListCommandMessages.COMMAND_WORD, ListCommandMessages.MESSAGE_NO_CLIENTS_TO_LIST,
+                this.model);
+    }
+
+    @Test
+    public void executeInBackground_severalCommands_executedInOrder() throws Exception {
+        String addCommand = AddCommandMessages.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + NOTE_DESC_AMY;
+        CompletableFuture<CommandResult> addResult = this.logic.executeInBackground(addCommand);
+        CompletableFuture<CommandResult> deleteResult =
+                this.logic.executeInBackground(DeleteCommandMessages.COMMAND_WORD + " 1");
+        CompletableFuture<CommandResult> invalidResult = this.logic.executeInBackground("uicfhmowqewca");
+
+        // The delete command only succeeds if the add command before it has been executed
+        deleteResult.get(10, TimeUnit.SECONDS);
+        assertTrue(addResult.isDone());
+        assertEquals(new ModelManager(), this.model);
+
+        Throwable error = invalidResult.handle((result, e) -> e).get(10, TimeUnit.SECONDS);
+        assertTrue(error instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, error.getMessage());
+    }
+
+    @Test
+    public void executeInBackground_errorFromStorage_completedExceptionally() throws Exception {
+        AssertionError assertionError = new AssertionError("dummy assertion error");
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(this.temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                        throw assertionError;
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(this.temporaryFolder.resolve("userPrefs.json"));
+        this.logic = new LogicManager(this.model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        String addCommand = AddCommandMessages.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + NOTE_DESC_AMY;
+        Throwable error = this.logic.executeInBackground(addCommand).handle((result, e) -> e)
+                .get(10, TimeUnit.SECONDS);
+        assertEquals(assertionError, error);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> this.logic.getFilteredPersonList().remove(0));
@@ -151,6 +203,21 @@ public class LogicManagerTest {
      * @param expectedMessage the message expected inside exception thrown by the Logic component
      */
     private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+        setUpStorageThrowing(e);
+
+        // Triggers the saveAddressBook method by executing an add command
+        String addCommand = AddCommandMessages.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + NOTE_DESC_AMY;
+        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(expectedPerson);
+        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+    }
+
+    /**
+     * Injects the Logic component with a Storage component that throws {@code e} when saving the address book.
+     */
+    private void setUpStorageThrowing(IOException e) {
         Path prefPath = this.temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -167,13 +234,5 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         this.logic = new LogicManager(this.model, storage);
-
-        // Triggers the saveAddressBook method by executing an add command
-        String addCommand = AddCommandMessages.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
-                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + NOTE_DESC_AMY;
-        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
-        ModelManager expectedModel = new ModelManager();
-        expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 }
@@ -0,0 +1,131 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class QrCodeServiceTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getQrCode_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new QrCodeService().getQrCode(null));
+    }
+
+    @Test
+    public void getQrCode_missingQrCode_generatedOnce() throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        QrCodeService qrCodeService = new QrCodeService(tasks::add, this.testFolder);
+        Path expectedPath = this.testFolder.resolve(QrCodeGenerator.getQrCodeFileName(BENSON));
+
+        // Concurrent requests share a single generation
+        CompletableFuture<Path> request = qrCodeService.getQrCode(BENSON);
+        assertSame(request, qrCodeService.getQrCode(BENSON));
+        assertEquals(1, tasks.size());
+        assertFalse(request.isDone());
+
+        tasks.get(0).run();
+        assertEquals(expectedPath, request.get());
+        assertTrue(Files.exists(expectedPath));
+
+        // Existing QR codes are reused without generating them again, including for persons with the same vCard
+        assertTrue(qrCodeService.getQrCode(BENSON).isDone());
+        assertTrue(qrCodeService.getQrCode(new PersonBuilder(BENSON).withTags("gym").build()).isDone());
+        assertTrue(new QrCodeService(tasks::add, this.testFolder).getQrCode(BENSON).isDone());
+        assertEquals(1, tasks.size());
+    }
+
+    @Test
+    public void getQrCode_fileBeingGenerated_pendingRequestReturned() throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        QrCodeService qrCodeService = new QrCodeService(tasks::add, this.testFolder);
+        CompletableFuture<Path> request = qrCodeService.getQrCode(BENSON);
+
+        // A file at the path of a QR code being generated may still be incomplete
+        Files.createFile(this.testFolder.resolve(QrCodeGenerator.getQrCodeFileName(BENSON)));
+        assertSame(request, qrCodeService.getQrCode(BENSON));
+        assertFalse(request.isDone());
+    }
+
+    @Test
+    public void getQrCode_backgroundThreads_success() throws Exception {
+        Files.deleteIfExists(QrCodeGenerator.getQrCodePath(CARL));
+        Path path = new QrCodeService().getQrCode(CARL).get(10, TimeUnit.SECONDS);
+        assertEquals(QrCodeGenerator.getQrCodePath(CARL), path);
+        assertTrue(Files.exists(path));
+    }
+
+    @Test
+    public void generateAll_manyPersons_missingQrCodesGenerated() throws Exception {
+        QrCodeService qrCodeService = new QrCodeService(Runnable::run, this.testFolder);
+        qrCodeService.getQrCode(ALICE).get();
+
+        List<Person> persons = new ArrayList<>(Arrays.asList(ALICE, BENSON, new PersonBuilder(BENSON).withTags("gym")
+                .build()));
+        for (int i = 0; i < 20; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+
+        // ALICE's QR code already exists, and both BENSONs share one QR code
+        assertEquals(Integer.valueOf(21), qrCodeService.generateAll(persons).get());
+        for (Person person : persons) {
+            assertTrue(Files.exists(this.testFolder.resolve(QrCodeGenerator.getQrCodeFileName(person))));
+        }
+        assertEquals(Integer.valueOf(0), qrCodeService.generateAll(persons).get());
+    }
+
+    @Test
+    public void removeReferences_lastReference_qrCodeDeleted() throws Exception {
+        QrCodeService qrCodeService = new QrCodeService(Runnable::run, this.testFolder);
+        Path alicePath = qrCodeService.getQrCode(ALICE).get();
+        Person taggedAlice = new PersonBuilder(ALICE).withTags("gym").build();
+        String aliceFileName = alicePath.getFileName().toString();
+
+        qrCodeService.addReferences(Arrays.asList(ALICE, taggedAlice));
+        assertEquals(2, qrCodeService.getReferenceCount(aliceFileName));
+
+        qrCodeService.removeReferences(Collections.singletonList(ALICE));
+        assertEquals(1, qrCodeService.getReferenceCount(aliceFileName));
+        assertTrue(Files.exists(alicePath));
+
+        qrCodeService.removeReferences(Collections.singletonList(taggedAlice));
+        assertEquals(0, qrCodeService.getReferenceCount(aliceFileName));
+        assertFalse(Files.exists(alicePath));
+    }
+
+    @Test
+    public void trackReferences_orphanedQrCodes_deleted() throws Exception {
+        QrCodeService qrCodeService = new QrCodeService(Runnable::run, this.testFolder);
+        Path alicePath = qrCodeService.getQrCode(ALICE).get();
+        Path bensonPath = qrCodeService.getQrCode(BENSON).get();
+        Path otherFile = Files.createFile(this.testFolder.resolve("notes.txt"));
+
+        qrCodeService.trackReferences(FXCollections.observableArrayList(ALICE));
+        assertTrue(Files.exists(alicePath));
+        assertFalse(Files.exists(bensonPath));
+        assertTrue(Files.exists(otherFile));
+    }
+}
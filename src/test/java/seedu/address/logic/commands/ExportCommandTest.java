@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.messages.ExportCommandMessages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_binaryFile_success() throws Exception {
+        Path filePath = this.testFolder.resolve("backup.fitbook");
+        String expectedMessage = String.format(ExportCommandMessages.MESSAGE_SUCCESS,
+                this.model.getAddressBook().getPersonList().size(), filePath);
+
+        assertCommandSuccess(new ExportCommand(filePath), this.model, expectedMessage, this.expectedModel);
+        assertEquals(this.model.getAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_jsonFile_success() throws Exception {
+        Path filePath = this.testFolder.resolve("backup.json");
+        String expectedMessage = String.format(ExportCommandMessages.MESSAGE_SUCCESS,
+                this.model.getAddressBook().getPersonList().size(), filePath);
+
+        assertCommandSuccess(new ExportCommand(filePath), this.model, expectedMessage, this.expectedModel);
+        assertEquals(this.model.getAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportFirstCommand = new ExportCommand(Paths.get("first.fitbook"));
+        ExportCommand exportSecondCommand = new ExportCommand(Paths.get("second.fitbook"));
+
+        // same object -> returns true
+        assertTrue(exportFirstCommand.equals(exportFirstCommand));
+
+        // same values -> returns true
+        assertTrue(exportFirstCommand.equals(new ExportCommand(Paths.get("first.fitbook"))));
+
+        // different types -> returns false
+        assertFalse(exportFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportFirstCommand.equals(exportSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path filePath = Paths.get("backup.fitbook");
+        ExportCommand exportCommand = new ExportCommand(filePath);
+        String expected = ExportCommand.class.getCanonicalName() + "{filePath=" + filePath + "}";
+        assertEquals(expected, exportCommand.toString());
+    }
+}
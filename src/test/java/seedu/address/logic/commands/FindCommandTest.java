@@ -479,12 +479,31 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(BENSON, DANIEL), this.model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_explain_stagesDescribed() {
+        CombinedPredicates predicates = new CombinedPredicates(new NameContainsSubstringPredicate("meier"),
+                new TagSetContainsAllTagsPredicate(new HashSet<>(Arrays.asList(new Tag("friends")))));
+        FindCommand command = new FindCommand(predicates, true);
+        CommandResult result = command.execute(this.model);
+
+        // The tag is looked up first, which leaves too few candidates to be worth looking up the name
+        String[] lines = result.getFeedbackToUser().split("\n");
+        assertEquals(String.format(MESSAGE_CLIENTS_FOUND_OVERVIEW, 2), lines[0]);
+        assertEquals("Searched 7 clients in 2 stage(s):", lines[1]);
+        assertEquals("Testing 3 candidate(s).", lines[2]);
+        assertEquals("1. tags include [friends] (index found 3): 3 client(s) left", lines[3]);
+        assertEquals("2. name contains \"meier\" (not looked up): 2 client(s) left", lines[4]);
+        assertEquals(Arrays.asList(BENSON, DANIEL), this.model.getFilteredPersonList());
+        assertFalse(command.equals(new FindCommand(predicates)));
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsSubstringPredicate predicate = new NameContainsSubstringPredicate("Fiona");
         CombinedPredicates combinedPredicates = new CombinedPredicates(predicate);
         FindCommand findCommand = new FindCommand(combinedPredicates);
-        String expected = FindCommand.class.getCanonicalName() + "{predicates=" + combinedPredicates + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{predicates=" + combinedPredicates
+                + ", isExplain=false}";
         assertEquals(expected, findCommand.toString());
     }
 }
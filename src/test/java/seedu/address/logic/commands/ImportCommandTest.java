@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.messages.ImportCommandMessages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_binaryFile_replacesAddressBook() throws Exception {
+        Path filePath = this.testFolder.resolve("backup.fitbook");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        AddressBook initial = new AddressBook();
+        initial.addPerson(ALICE);
+        Model model = new ModelManager(initial, new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(ImportCommandMessages.MESSAGE_SUCCESS,
+                getTypicalAddressBook().getPersonList().size(), filePath);
+
+        assertCommandSuccess(new ImportCommand(filePath), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_jsonFile_replacesAddressBook() throws Exception {
+        Path filePath = this.testFolder.resolve("backup.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        Model model = new ModelManager();
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(ImportCommandMessages.MESSAGE_SUCCESS,
+                getTypicalAddressBook().getPersonList().size(), filePath);
+
+        assertCommandSuccess(new ImportCommand(filePath), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = this.testFolder.resolve("missing.fitbook");
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        assertCommandFailure(new ImportCommand(filePath), model,
+                String.format(ImportCommandMessages.MESSAGE_FILE_NOT_FOUND, filePath));
+    }
+
+    @Test
+    public void execute_invalidFile_throwsCommandException() throws Exception {
+        Path filePath = this.testFolder.resolve("invalid.fitbook");
+        Files.writeString(filePath, "not binary format!");
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        assertCommandFailure(new ImportCommand(filePath), model, String.format(
+                ImportCommandMessages.MESSAGE_IMPORT_FAILED, filePath,
+                BinaryAddressBookStorage.MESSAGE_NOT_BINARY_FORMAT));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importFirstCommand = new ImportCommand(Paths.get("first.fitbook"));
+        ImportCommand importSecondCommand = new ImportCommand(Paths.get("second.fitbook"));
+
+        // same object -> returns true
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+
+        // same values -> returns true
+        assertTrue(importFirstCommand.equals(new ImportCommand(Paths.get("first.fitbook"))));
+
+        // different types -> returns false
+        assertFalse(importFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importFirstCommand.equals(importSecondCommand));
+    }
+}
@@ -8,6 +8,8 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
@@ -16,15 +18,19 @@ import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.messages.ClearCommandMessages;
 import seedu.address.logic.messages.DeleteCommandMessages;
 import seedu.address.logic.messages.EditCommandMessages;
 import seedu.address.logic.messages.ExitCommandMessages;
+import seedu.address.logic.messages.ExportCommandMessages;
 import seedu.address.logic.messages.FindCommandMessages;
 import seedu.address.logic.messages.HelpCommandMessages;
+import seedu.address.logic.messages.ImportCommandMessages;
 import seedu.address.logic.messages.ListCommandMessages;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Person;
@@ -53,6 +59,20 @@ public class AddressBookParserTest {
         assertTrue(this.parser.parseCommand(ClearCommandMessages.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) this.parser.parseCommand(
+                ImportCommandMessages.COMMAND_WORD + " data/backup.fitbook");
+        assertEquals(new ImportCommand(Paths.get("data/backup.fitbook")), command);
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) this.parser.parseCommand(
+                ExportCommandMessages.COMMAND_WORD + " data/backup.json");
+        assertEquals(new ExportCommand(Paths.get("data/backup.json")), command);
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         DeleteCommand command = (DeleteCommand) this.parser.parseCommand(
@@ -106,10 +126,19 @@ public class AddressBookParserTest {
         assertTrue(this.parser.parseCommand(ListCommandMessages.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_commandWordInUpperCase() throws Exception {
+        assertTrue(this.parser.parseCommand(" " + ListCommandMessages.COMMAND_WORD.toUpperCase() + "\t3")
+                instanceof ListCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                 HelpCommandMessages.MESSAGE_USAGE), () -> this.parser.parseCommand(""));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                HelpCommandMessages.MESSAGE_USAGE), () -> this.parser.parseCommand(
+                        ListCommandMessages.COMMAND_WORD + " 3\n4"));
     }
 
     @Test
@@ -140,6 +140,17 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, this.hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingFirstCharacter() {
+        Prefix nSlash = new Prefix("n/");
+        Prefix ntSlash = new Prefix("nt/");
+        String argsString = " NT/ note n/ name nt/ another note N/ n/";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, nSlash, ntSlash);
+        assertPreambleEmpty(argMultimap);
+        assertArgumentPresent(argMultimap, nSlash, "name", "", "");
+        assertArgumentPresent(argMultimap, ntSlash, "note", "another note");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.messages.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FIND_EXPLAIN;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_HEIGHT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
@@ -90,6 +91,17 @@ public class FindCommandParserTest {
         assertParseSuccess(this.parser, String.format(" %s%s \n", PREFIX_NAME, NAME), expectedCommand);
     }
 
+    @Test
+    public void parse_explainFlagPresent_returnsExplainingFindCommand() {
+        FindCommand expectedCommand = new FindCommand(new CombinedPredicates(
+                NAME_PREDICATE, PHONE_PREDICATE_EMPTY, EMAIL_PREDICATE_EMPTY, ADDRESS_PREDICATE_EMPTY,
+                WEIGHT_PREDICATE_EMPTY, HEIGHT_PREDICATE_EMPTY, NOTE_PREDICATE_EMPTY,
+                TAGS_PREDICATE_EMPTY), true);
+
+        assertParseSuccess(this.parser, String.format(" %s%s %s", PREFIX_NAME, NAME, PREFIX_FIND_EXPLAIN),
+                expectedCommand);
+    }
+
     @Test
     public void parse_phoneFieldPresent_returnsFindCommand() {
         FindCommand expectedCommand = new FindCommand(new CombinedPredicates(
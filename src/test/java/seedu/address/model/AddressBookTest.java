@@ -78,6 +78,35 @@ public class AddressBookTest {
         assertTrue(this.addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getModificationCount_afterEachModification_increases() {
+        long count = this.addressBook.getModificationCount();
+        this.addressBook.addPerson(ALICE);
+        assertTrue(this.addressBook.getModificationCount() > count);
+
+        count = this.addressBook.getModificationCount();
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        this.addressBook.setPerson(ALICE, editedAlice);
+        assertTrue(this.addressBook.getModificationCount() > count);
+
+        count = this.addressBook.getModificationCount();
+        this.addressBook.removePerson(editedAlice);
+        assertTrue(this.addressBook.getModificationCount() > count);
+
+        count = this.addressBook.getModificationCount();
+        this.addressBook.resetData(getTypicalAddressBook());
+        assertTrue(this.addressBook.getModificationCount() > count);
+    }
+
+    @Test
+    public void getModificationCount_readOnlyOperations_unchanged() {
+        this.addressBook.addPerson(ALICE);
+        long count = this.addressBook.getModificationCount();
+        this.addressBook.hasPerson(ALICE);
+        this.addressBook.getPersonList();
+        assertEquals(count, this.addressBook.getModificationCount());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> this.addressBook.getPersonList().remove(0));
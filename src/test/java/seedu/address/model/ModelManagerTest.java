@@ -7,15 +7,24 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.CombinedPredicates;
 import seedu.address.model.person.predicates.NameContainsSubstringPredicate;
+import seedu.address.model.person.predicates.TagSetContainsAllTagsPredicate;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -92,6 +101,26 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> this.modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_refinedSearch_previousResultsNarrowedDown() {
+        ModelManager modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredPersonList(new CombinedPredicates(new NameContainsSubstringPredicate("mei")));
+        assertEquals(Arrays.asList(BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        CombinedPredicates refinedSearch = new CombinedPredicates(new NameContainsSubstringPredicate("meie"),
+                new TagSetContainsAllTagsPredicate(Set.of(new Tag("owesMoney"))));
+        modelManager.updateFilteredPersonList(refinedSearch);
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+        assertTrue(modelManager.explainSearch(refinedSearch).contains("Refined the last search, which found 2"));
+
+        // Persons added since the last search are not in its results, so the next search is not refined
+        Person newMeier = new PersonBuilder().withName("Anna Meier").withTags("owesMoney").build();
+        modelManager.addPerson(newMeier);
+        modelManager.updateFilteredPersonList(refinedSearch);
+        assertEquals(Arrays.asList(BENSON, newMeier), modelManager.getFilteredPersonList());
+        assertFalse(modelManager.explainSearch(refinedSearch).contains("Refined the last search"));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
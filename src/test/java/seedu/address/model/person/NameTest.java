@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -80,4 +82,16 @@ public class NameTest {
         // Different type
         assertFalse(name.isMatch(1));
     }
+
+    @Test
+    public void getSearchKey() {
+        // Normalized once, and reused if the value is already normalized
+        assertEquals("wendy son", new Name("Wendy Son").getSearchKey());
+        String normalizedName = "wendy son";
+        assertSame(normalizedName, new Name(normalizedName).getSearchKey());
+
+        Name name = new Name("Wendy Son");
+        assertTrue(name.containsSearchKey(TextAttribute.toSearchKey(" SON ")));
+        assertFalse(name.containsSearchKey("Son"));
+    }
 }
@@ -0,0 +1,59 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIdentityTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonIdentity(null, ALICE.getPhone()));
+        assertThrows(NullPointerException.class, () -> new PersonIdentity(ALICE.getName(), null));
+    }
+
+    @Test
+    public void equals() {
+        PersonIdentity aliceIdentity = PersonIdentity.of(ALICE);
+
+        // same values -> returns true
+        assertTrue(aliceIdentity.equals(new PersonIdentity(ALICE.getName(), ALICE.getPhone())));
+
+        // same object -> returns true
+        assertTrue(aliceIdentity.equals(aliceIdentity));
+
+        // null -> returns false
+        assertFalse(aliceIdentity.equals(null));
+
+        // different types -> returns false
+        assertFalse(aliceIdentity.equals(ALICE));
+
+        // same identity fields, different data fields -> returns true
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertTrue(aliceIdentity.equals(PersonIdentity.of(editedAlice)));
+        assertEquals(aliceIdentity.hashCode(), PersonIdentity.of(editedAlice).hashCode());
+
+        // different name -> returns false
+        editedAlice = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        assertFalse(aliceIdentity.equals(PersonIdentity.of(editedAlice)));
+
+        // different phone -> returns false
+        editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertFalse(aliceIdentity.equals(PersonIdentity.of(editedAlice)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        PersonIdentity aliceIdentity = PersonIdentity.of(ALICE);
+        assertEquals(ALICE.getName() + " (" + ALICE.getPhone() + ")", aliceIdentity.toString());
+    }
+}
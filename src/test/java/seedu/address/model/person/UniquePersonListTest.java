@@ -102,6 +102,14 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, this.uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_replacesIdentity() {
+        this.uniquePersonList.add(ALICE);
+        this.uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(this.uniquePersonList.contains(ALICE));
+        assertTrue(this.uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         this.uniquePersonList.add(ALICE);
@@ -127,6 +135,15 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, this.uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_removesIdentity() {
+        this.uniquePersonList.add(ALICE);
+        this.uniquePersonList.remove(ALICE);
+        assertFalse(this.uniquePersonList.contains(ALICE));
+        this.uniquePersonList.add(ALICE);
+        assertTrue(this.uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> this.uniquePersonList.setPersons((UniquePersonList) null));
@@ -154,6 +171,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, this.uniquePersonList);
+        assertFalse(this.uniquePersonList.contains(ALICE));
+        assertTrue(this.uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -162,6 +181,16 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> this.uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_namesCollidingIdentities() {
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).withTags(VALID_TAG_HUSBAND).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE, editedBob, ALICE);
+        String expectedMessage = "Operation would result in duplicate persons: "
+                + PersonIdentity.of(ALICE) + ", " + PersonIdentity.of(BOB);
+        assertThrows(DuplicatePersonException.class, expectedMessage, () ->
+                this.uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,146 @@
+package seedu.address.model.person.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Person.PersonAttribute;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIndexTest {
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private final PersonIndex index = this.persons.getIndex();
+
+    @Test
+    public void findSubstring_queryTooShortOrAttributeNotIndexed_returnsEmpty() {
+        this.persons.add(ALICE);
+        assertFalse(this.index.findSubstring(PersonAttribute.NAME, "al").isPresent());
+        assertFalse(this.index.findSubstring(PersonAttribute.NAME, "  al  ").isPresent());
+        assertFalse(this.index.findSubstring(PersonAttribute.WEIGHT, "alice").isPresent());
+    }
+
+    @Test
+    public void findSubstring_matchingPersons_returnsCandidates() {
+        this.persons.add(ALICE);
+        this.persons.add(BENSON);
+        this.persons.add(CARL);
+
+        // Case-insensitive, and spanning words
+        assertEquals(ids(ALICE), this.index.findSubstring(PersonAttribute.NAME, " ALICE P "));
+        assertEquals(ids(BENSON), this.index.findSubstring(PersonAttribute.PHONE, "5432"));
+        assertEquals(ids(ALICE, BENSON, CARL), this.index.findSubstring(PersonAttribute.EMAIL, "example.com"));
+        assertEquals(ids(BENSON), this.index.findSubstring(PersonAttribute.ADDRESS, "clementi"));
+
+        // No person contains one of the trigrams
+        assertEquals(ids(), this.index.findSubstring(PersonAttribute.NAME, "alicx"));
+    }
+
+    @Test
+    public void findSubstring_personsChangedAfterSearch_indexUpdated() {
+        this.persons.add(ALICE);
+        this.persons.add(BENSON);
+        assertEquals(ids(BENSON), this.index.findSubstring(PersonAttribute.NAME, "meier"));
+
+        this.persons.add(DANIEL);
+        assertEquals(ids(BENSON, DANIEL), this.index.findSubstring(PersonAttribute.NAME, "meier"));
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Muller").build();
+        this.persons.setPerson(BENSON, editedBenson);
+        assertEquals(ids(DANIEL), this.index.findSubstring(PersonAttribute.NAME, "meier"));
+        assertEquals(ids(editedBenson), this.index.findSubstring(PersonAttribute.NAME, "muller"));
+
+        // An equal but different instance removes the person in the list
+        this.persons.remove(new PersonBuilder(DANIEL).build());
+        assertEquals(ids(), this.index.findSubstring(PersonAttribute.NAME, "meier"));
+        assertEquals(-1, this.index.getId(DANIEL));
+    }
+
+    @Test
+    public void findRange_weightsAndHeights_returnsPersonsInRange() {
+        Person light = new PersonBuilder().withName("Light").withWeights("2024-01-01T10:00:00=90f",
+                "2024-03-01T10:00:00=60f").withHeight(150f).build();
+        Person heavy = new PersonBuilder().withName("Heavy").withWeights("2024-01-01T10:00:00=80f")
+                .withHeight(170.5f).build();
+        Person unmeasured = new PersonBuilder().withName("Unmeasured").withWeights().withHeight(0f).build();
+        this.persons.add(light);
+        this.persons.add(heavy);
+        this.persons.add(unmeasured);
+
+        // Only the latest weight counts, and both ends of the range are included
+        assertEquals(ids(light, heavy), this.index.findRange(PersonAttribute.WEIGHT, 60f, 80f));
+        assertEquals(ids(light), this.index.findRange(PersonAttribute.WEIGHT, 0f, 79.9f));
+        assertEquals(ids(), this.index.findRange(PersonAttribute.WEIGHT, 85f, 95f));
+        assertEquals(ids(light, heavy), this.index.findRange(PersonAttribute.HEIGHT, 0f, 5000f));
+        assertEquals(ids(heavy), this.index.findRange(PersonAttribute.HEIGHT, 170.5f, 170.5f));
+        assertFalse(this.index.findRange(PersonAttribute.NAME, 0f, 1f).isPresent());
+
+        // Changes after the index is built
+        Person lighter = new PersonBuilder(heavy).withWeights("2024-01-01T10:00:00=80f", "2024-04-01T10:00:00=70f")
+                .build();
+        this.persons.setPerson(heavy, lighter);
+        this.persons.remove(light);
+        assertEquals(ids(lighter), this.index.findRange(PersonAttribute.WEIGHT, 60f, 75f));
+        assertEquals(ids(lighter), this.index.findRange(PersonAttribute.HEIGHT, 0f, 5000f));
+    }
+
+    @Test
+    public void findTags_severalTags_returnsPersonsWithAllTags() {
+        this.persons.add(ALICE);
+        this.persons.add(BENSON);
+        this.persons.add(CARL);
+
+        assertEquals(ids(ALICE, BENSON).get(), this.index.findTags(tags("FRIENDS")));
+        assertEquals(ids(BENSON).get(), this.index.findTags(tags("friends", "owesmoney")));
+        assertEquals(ids().get(), this.index.findTags(tags("friends", "colleagues")));
+
+        // Changes after the index is built
+        Person untaggedBenson = new PersonBuilder(BENSON).withTags("owesMoney").build();
+        this.persons.setPerson(BENSON, untaggedBenson);
+        this.persons.add(DANIEL);
+        assertEquals(ids(ALICE, DANIEL).get(), this.index.findTags(tags("friends")));
+        assertEquals(ids().get(), this.index.findTags(tags("friends", "owesMoney")));
+    }
+
+    @Test
+    public void getId_personsReplaced_idsNeverReused() {
+        this.persons.add(ALICE);
+        int aliceId = this.index.getId(ALICE);
+        this.persons.remove(ALICE);
+        this.persons.add(ALICE);
+        assertTrue(this.index.getId(ALICE) > aliceId);
+
+        this.persons.setPersons(Arrays.asList(BENSON, CARL));
+        assertEquals(-1, this.index.getId(ALICE));
+        assertTrue(this.index.getId(BENSON) > aliceId);
+        assertEquals(this.index.getId(CARL) + 1, this.index.getNextId());
+        assertEquals(ids(CARL), this.index.findSubstring(PersonAttribute.NAME, "kurz"));
+    }
+
+    private static Set<Tag> tags(String... tagNames) {
+        return Arrays.stream(tagNames).map(Tag::new).collect(Collectors.toSet());
+    }
+
+    private Optional<BitSet> ids(Person... persons) {
+        BitSet ids = new BitSet();
+        for (Person person : persons) {
+            ids.set(this.index.getId(person));
+        }
+        return Optional.of(ids);
+    }
+}
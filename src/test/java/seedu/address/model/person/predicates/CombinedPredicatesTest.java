@@ -1,11 +1,21 @@
 package seedu.address.model.person.predicates;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.util.Pair;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class CombinedPredicatesTest {
@@ -97,4 +107,106 @@ public class CombinedPredicatesTest {
         assertFalse(combinedPredicates
                 .equals(new CombinedPredicates(namePredicate, new PhoneContainsSubstringPredicate("invalid"))));
     }
+
+    @Test
+    public void withIndex_indexedPredicates_sameResultsAsTest() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(ALICE);
+        persons.add(BENSON);
+        persons.add(DANIEL);
+        CombinedPredicates combinedPredicates = new CombinedPredicates(new NameContainsSubstringPredicate("meier"),
+                new EmailContainsSubstringPredicate("example"), new AlwaysTruePredicate());
+
+        Predicate<Person> indexedPredicate = combinedPredicates.withIndex(persons.getIndex());
+        assertFalse(indexedPredicate.test(ALICE));
+        assertTrue(indexedPredicate.test(BENSON));
+        assertTrue(indexedPredicate.test(DANIEL));
+
+        // Persons added after the search are tested in full
+        Person fiona = new PersonBuilder().withName("Fiona Meier").withEmail("fiona@example.com").build();
+        persons.add(fiona);
+        assertTrue(indexedPredicate.test(fiona));
+        assertFalse(indexedPredicate.test(new PersonBuilder().withName("Fiona Kunz").build()));
+    }
+
+    @Test
+    public void withIndex_rangeAndSubstringPredicates_intersected() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(ALICE);
+        persons.add(BENSON);
+        persons.add(DANIEL);
+        CombinedPredicates combinedPredicates = new CombinedPredicates(new NameContainsSubstringPredicate("meier"),
+                new WeightMapContainsWeightRangePredicate(new Pair<>(80f, 84f)),
+                new TagSetContainsAllTagsPredicate(Set.of(new Tag("friends"))));
+
+        // Only BENSON has a name containing "meier", a latest weight of 83 and the tag
+        Predicate<Person> indexedPredicate = combinedPredicates.withIndex(persons.getIndex());
+        assertFalse(indexedPredicate.test(ALICE));
+        assertTrue(indexedPredicate.test(BENSON));
+        assertFalse(indexedPredicate.test(DANIEL));
+    }
+
+    @Test
+    public void withIndex_noIndexedPredicates_everyPersonTested() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(ALICE);
+        persons.add(BENSON);
+        CombinedPredicates combinedPredicates = new CombinedPredicates(new NameContainsSubstringPredicate("al"),
+                new PhoneContainsSubstringPredicate(""));
+
+        QueryPlan plan = combinedPredicates.withIndex(persons.getIndex());
+        assertTrue(plan.test(ALICE));
+        assertFalse(plan.test(BENSON));
+        String explanation = plan.explain(persons.asUnmodifiableObservableList());
+        assertEquals("Searched 2 clients in 2 stage(s):\n"
+                + "No index lookups, so every client was tested.\n"
+                + "1. name contains \"al\" (not indexed): 1 client(s) left\n"
+                + "2. phone has a value (not indexed): 1 client(s) left", explanation);
+    }
+
+    @Test
+    public void isRefinementOf() {
+        CombinedPredicates search = new CombinedPredicates(new NameContainsSubstringPredicate("al"),
+                new WeightMapContainsWeightRangePredicate(new Pair<>(60f, 80f)),
+                new TagSetContainsAllTagsPredicate(Set.of(new Tag("friends"))));
+
+        // narrower values, and more predicates -> returns true
+        assertTrue(search.isRefinementOf(search));
+        assertTrue(new CombinedPredicates(new NameContainsSubstringPredicate("ALE"),
+                new WeightMapContainsWeightRangePredicate(new Pair<>(65f, 80f)),
+                new TagSetContainsAllTagsPredicate(Set.of(new Tag("Friends"), new Tag("vip"))),
+                new PhoneContainsSubstringPredicate("9")).isRefinementOf(search));
+        assertTrue(new CombinedPredicates(new TagSetContainsAllTagsPredicate(Set.of(new Tag("vip"))))
+                .isRefinementOf(new CombinedPredicates(new TagSetContainsAllTagsPredicate(Tag.EMPTY_TAG_SET))));
+        assertTrue(new CombinedPredicates(new NameContainsSubstringPredicate("al"))
+                .isRefinementOf(new CombinedPredicates(new NameContainsSubstringPredicate(""))));
+
+        // wider or different values -> returns false
+        assertFalse(new CombinedPredicates(new NameContainsSubstringPredicate("a"),
+                new WeightMapContainsWeightRangePredicate(new Pair<>(60f, 80f)),
+                new TagSetContainsAllTagsPredicate(Set.of(new Tag("friends")))).isRefinementOf(search));
+        assertFalse(new CombinedPredicates(new NameContainsSubstringPredicate("al"),
+                new WeightMapContainsWeightRangePredicate(new Pair<>(50f, 80f)),
+                new TagSetContainsAllTagsPredicate(Set.of(new Tag("friends")))).isRefinementOf(search));
+        assertFalse(new CombinedPredicates(new NameContainsSubstringPredicate("al"),
+                new WeightMapContainsWeightRangePredicate(new Pair<>(60f, 80f)),
+                new TagSetContainsAllTagsPredicate(Set.of(new Tag("vip")))).isRefinementOf(search));
+
+        // missing predicates -> returns false
+        assertFalse(new CombinedPredicates(new NameContainsSubstringPredicate("ale")).isRefinementOf(search));
+        assertFalse(new CombinedPredicates(new EmailContainsSubstringPredicate("al"))
+                .isRefinementOf(new CombinedPredicates(new NameContainsSubstringPredicate("al"))));
+    }
+
+    @Test
+    public void constructor_alwaysTruePredicates_droppedFromPlan() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(ALICE);
+        CombinedPredicates combinedPredicates = new CombinedPredicates(new AlwaysTruePredicate(),
+                new NameContainsSubstringPredicate("alice"), new AlwaysTruePredicate());
+
+        assertTrue(combinedPredicates.equals(new CombinedPredicates(new NameContainsSubstringPredicate("alice"))));
+        assertTrue(combinedPredicates.withIndex(persons.getIndex())
+                .explain(persons.asUnmodifiableObservableList()).startsWith("Searched 1 clients in 1 stage(s):"));
+    }
 }
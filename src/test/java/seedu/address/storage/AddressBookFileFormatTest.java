@@ -0,0 +1,59 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AddressBookFileFormatTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void of_fileName_formatFromExtension() {
+        assertEquals(AddressBookFileFormat.JSON, AddressBookFileFormat.of(Paths.get("data", "backup.JSON")));
+        assertEquals(AddressBookFileFormat.BINARY, AddressBookFileFormat.of(Paths.get("data", "backup.fitbook")));
+        assertEquals(AddressBookFileFormat.BINARY, AddressBookFileFormat.of(Paths.get("data", "backup")));
+    }
+
+    @Test
+    public void detect_jsonDataWithoutJsonExtension_json() throws Exception {
+        Path filePath = this.testFolder.resolve("addressbook");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertEquals(AddressBookFileFormat.JSON, AddressBookFileFormat.detect(filePath));
+    }
+
+    @Test
+    public void detect_binaryDataWithJsonExtension_binary() throws Exception {
+        Path filePath = this.testFolder.resolve("addressbook.json");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertEquals(AddressBookFileFormat.BINARY, AddressBookFileFormat.detect(filePath));
+    }
+
+    @Test
+    public void detect_binaryDataInLaterGeneration_binary() throws Exception {
+        Path filePath = this.testFolder.resolve("addressbook.fitbook");
+        BinaryAddressBookStorage mappedStorage = new BinaryAddressBookStorage(filePath, true);
+        mappedStorage.saveAddressBook(getTypicalAddressBook());
+        mappedStorage.readAddressBook();
+        mappedStorage.saveAddressBook(getTypicalAddressBook());
+        Files.delete(filePath);
+
+        assertEquals(AddressBookFileFormat.BINARY, AddressBookFileFormat.detect(filePath));
+    }
+
+    @Test
+    public void detect_missingOrShortFile_json() throws Exception {
+        Path filePath = this.testFolder.resolve("addressbook.fitbook");
+        assertEquals(AddressBookFileFormat.JSON, AddressBookFileFormat.detect(filePath));
+
+        Files.write(filePath, new byte[] {'F', 'B'});
+        assertEquals(AddressBookFileFormat.JSON, AddressBookFileFormat.detect(filePath));
+    }
+}
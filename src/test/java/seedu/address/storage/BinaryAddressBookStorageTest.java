@@ -0,0 +1,311 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.exercise.Exercise;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.weight.Weight;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(this.testFolder)
+                .readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = this.testFolder.resolve("NonExistentFile.fitbook");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_exceptionThrown() {
+        Path filePath = TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_unsupportedVersion_exceptionThrown() throws Exception {
+        Path filePath = this.testFolder.resolve("TempAddressBook.fitbook");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryAddressBookStorage.MAGIC);
+        BinaryPersonCodec.writeVarLong(BinaryAddressBookStorage.FORMAT_VERSION + 1, out);
+        Files.write(filePath, bytes.toByteArray());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = this.testFolder.resolve("TempAddressBook.fitbook");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length - 1));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_duplicatePersons_exceptionThrown() throws Exception {
+        Path filePath = this.testFolder.resolve("TempAddressBook.fitbook");
+        List<Person> persons = new ArrayList<>();
+        persons.add(ALICE);
+        persons.add(new PersonBuilder(ALICE).withNote("Same identity").build());
+        ReadOnlyAddressBook duplicates = () -> FXCollections.observableList(persons);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(duplicates);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = this.testFolder.resolve("TempAddressBook.fitbook");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+        assertSameDetails(original, readBack);
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+        assertSameDetails(original, readBack);
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        binaryAddressBookStorage.saveAddressBook(original); // file path not specified
+        readBack = binaryAddressBookStorage.readAddressBook().get(); // file path not specified
+        assertEquals(original, new AddressBook(readBack));
+        assertSameDetails(original, readBack);
+    }
+
+    @Test
+    public void saveAddressBook_longWeightHistory_smallerThanJson() throws Exception {
+        String[] weights = new String[12 * 28];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = String.format("2023-%02d-%02dT07:30:00=%d.5f", i / 28 + 1, i % 28 + 1, 60 + i % 20);
+        }
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder(ALICE).withWeights(weights).withTags("friends", "regular")
+                .withExercises(new Exercise("squats", 3, 12, 60), new Exercise("Push Ups", 4, 10, 30)).build());
+
+        Path binaryFile = this.testFolder.resolve("TempAddressBook.fitbook");
+        Path jsonFile = this.testFolder.resolve("TempAddressBook.json");
+        new BinaryAddressBookStorage(binaryFile).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(binaryFile).readAddressBook().get();
+        assertSameDetails(original, readBack);
+        assertTrue(Files.size(binaryFile) * 4 < Files.size(jsonFile));
+    }
+
+    @Test
+    public void readAddressBook_memoryMapped_success() throws Exception {
+        Path filePath = this.testFolder.resolve("TempAddressBook.fitbook");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage mappedStorage = new BinaryAddressBookStorage(filePath, true);
+        mappedStorage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = mappedStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertSameDetails(original, readBack);
+
+        // Persons read before a save still decode their details after it
+        original.addPerson(HOON);
+        mappedStorage.saveAddressBook(original);
+        assertSameDetails(original, mappedStorage.readAddressBook().get());
+        original.removePerson(HOON);
+        assertSameDetails(original, readBack);
+    }
+
+    @Test
+    public void saveAddressBook_memoryMappedFileRead_mappedFileNotReplaced() throws Exception {
+        Path filePath = this.testFolder.resolve("TempAddressBook.fitbook");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] mappedContent = Files.readAllBytes(filePath);
+
+        BinaryAddressBookStorage mappedStorage = new BinaryAddressBookStorage(filePath, true);
+        ReadOnlyAddressBook readBack = mappedStorage.readAddressBook().get();
+        AddressBook edited = new AddressBook(original);
+        edited.addPerson(HOON);
+        mappedStorage.saveAddressBook(edited);
+        edited.addPerson(IDA);
+        mappedStorage.saveAddressBook(edited);
+
+        // Both saves went to the next generation, and the mapped file is left as it was
+        Path nextGeneration = BinaryAddressBookStorage.getGenerationPath(filePath, 1);
+        assertArrayEquals(mappedContent, Files.readAllBytes(filePath));
+        assertTrue(Files.exists(nextGeneration));
+        assertSameDetails(original, readBack);
+        assertEquals(edited, new AddressBook(mappedStorage.readAddressBook().get()));
+
+        // A later run maps the latest generation, and deletes the older ones once it saves
+        BinaryAddressBookStorage laterStorage = new BinaryAddressBookStorage(filePath, true);
+        assertEquals(edited, new AddressBook(laterStorage.readAddressBook().get()));
+        laterStorage.saveAddressBook(original);
+        assertFalse(Files.exists(filePath));
+        assertTrue(Files.exists(nextGeneration));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath, true).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_memoryMappedTruncatedFile_exceptionThrown() throws Exception {
+        Path filePath = this.testFolder.resolve("TempAddressBook.fitbook");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length - 1));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath, true)
+                .readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_memoryMappedInvalidWeight_exceptionThrown() throws Exception {
+        Path filePath = this.testFolder.resolve("TempAddressBook.fitbook");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder(ALICE).withWeights("2023-01-01T07:30:00=60.5f").build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        // Replace the weight with one above the maximum
+        byte[] content = Files.readAllBytes(filePath);
+        byte[] weight = ByteBuffer.allocate(Float.BYTES).putFloat(60.5f).array();
+        int weightOffset = indexOf(content, weight);
+        ByteBuffer.wrap(content).putFloat(weightOffset, Weight.WEIGHT_MAX_VALUE + 1);
+        Files.write(filePath, content);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath, true)
+                .readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_memoryMappedInvalidExercise_exceptionThrown() throws Exception {
+        Path filePath = this.testFolder.resolve("TempAddressBook.fitbook");
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder(ALICE).withExercises(new Exercise("squats", 3, 10, 60)).build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        // The record ends with the exercise's sets, reps and break between sets; replace its sets with 0
+        byte[] content = Files.readAllBytes(filePath);
+        int setsOffset = indexOf(content, new byte[] {3, 10, 60});
+        content[setsOffset] = 0;
+        Files.write(filePath, content);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath, true)
+                .readAddressBook());
+    }
+
+    private static int indexOf(byte[] content, byte[] bytes) {
+        for (int i = 0; i + bytes.length <= content.length; i++) {
+            if (Arrays.equals(content, i, i + bytes.length, bytes, 0, bytes.length)) {
+                return i;
+            }
+        }
+        throw new AssertionError("Bytes not found");
+    }
+
+    @Test
+    public void readPerson_manyPersons_detailsCacheBounded() throws Exception {
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < MappedPersonRecords.DETAILS_CACHE_CAPACITY + 10; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).withWeights("2023-01-01T07:30:00=60.5f")
+                    .withExercises(new Exercise("squats", 3, i + 1, 60)).build());
+        }
+        Path filePath = this.testFolder.resolve("TempAddressBook.fitbook");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        DataInputStream in = new DataInputStream(new MappedPersonRecords.ByteBufferInputStream(buffer));
+        in.readInt();
+        BinaryPersonCodec.readVarLong(in);
+        List<String> dictionary = new ArrayList<>();
+        for (int i = BinaryPersonCodec.readLength(in); i > 0; i--) {
+            dictionary.add(BinaryPersonCodec.readString(in));
+        }
+        MappedPersonRecords records = new MappedPersonRecords(buffer, dictionary);
+
+        List<Person> persons = new ArrayList<>();
+        for (int i = BinaryPersonCodec.readLength(in); i > 0; i--) {
+            int length = BinaryPersonCodec.readLength(in);
+            persons.add(records.readPerson(buffer.position(), length));
+            buffer.position(buffer.position() + length);
+        }
+        assertEquals(0, records.getCachedDetailsCount());
+
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(original.getPersonList().get(i).getExerciseSet(), persons.get(i).getExerciseSet());
+        }
+        assertEquals(MappedPersonRecords.DETAILS_CACHE_CAPACITY, records.getCachedDetailsCount());
+
+        // Evicted details are decoded again
+        assertEquals(original.getPersonList().get(0).getWeights(), persons.get(0).getWeights());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(this.testFolder)
+                .saveAddressBook(null, this.testFolder.resolve("SomeFile.fitbook")));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(this.testFolder)
+                .saveAddressBook(new AddressBook(), null));
+    }
+
+    /**
+     * Asserts that the persons in {@code actual} have the same details as those in {@code expected}, including the
+     * fields that {@code Person#equals} does not compare.
+     */
+    private static void assertSameDetails(ReadOnlyAddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected.getPersonList().size(), actual.getPersonList().size());
+        for (int i = 0; i < expected.getPersonList().size(); i++) {
+            Person expectedPerson = expected.getPersonList().get(i);
+            Person actualPerson = actual.getPersonList().get(i);
+            assertEquals(expectedPerson.getWeights(), actualPerson.getWeights());
+            assertEquals(expectedPerson.getHeight(), actualPerson.getHeight());
+            assertEquals(expectedPerson.getTags(), actualPerson.getTags());
+            assertEquals(expectedPerson.getExerciseSet(), actualPerson.getExerciseSet());
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(this.testFolder)
+                .readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = this.testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_notJsonFormat_exceptionThrown() {
+        Path filePath = TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void read_jsonAddressBookStorageFile_success() throws Exception {
+        Path filePath = this.testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = this.testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        // First save writes a snapshot that plain json storage can read
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Mutations are appended to the journal without rewriting the snapshot
+        String snapshot = Files.readString(filePath);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        original.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(original);
+        original.setPerson(CARL, BOB);
+        storage.saveAddressBook(original);
+        assertEquals(snapshot, Files.readString(filePath));
+
+        // Snapshot and journal are replayed on read, by this and by a new storage
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Save and read after reading back
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_nothingWritten() throws Exception {
+        Path filePath = this.testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook(original));
+        try (Stream<Path> files = Files.list(this.testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void saveAddressBook_reorderedPersons_writesSnapshot() throws Exception {
+        Path filePath = this.testFolder.resolve("TempAddressBook.json");
+        AddressBook original = new AddressBook();
+        original.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        original.setPersons(Arrays.asList(CARL, ALICE, BENSON));
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_pastCompactionThreshold_compactsJournal() throws Exception {
+        Path filePath = this.testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        Person person = ALICE;
+        for (int i = 0; i < JournalAddressBookStorage.COMPACTION_THRESHOLD + 1; i++) {
+            Person editedPerson = new PersonBuilder(person).withNote("Note " + i).build();
+            original.setPerson(person, editedPerson);
+            storage.saveAddressBook(original);
+            person = editedPerson;
+        }
+
+        // Reading through the same storage waits for the background compaction to finish
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedSnapshotAfterCompaction_fallsBackToPreviousSnapshot() throws Exception {
+        Path filePath = this.testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        Person person = ALICE;
+        for (int i = 0; i < JournalAddressBookStorage.COMPACTION_THRESHOLD + 1; i++) {
+            Person editedPerson = new PersonBuilder(person).withNote("Note " + i).build();
+            original.setPerson(person, editedPerson);
+            storage.saveAddressBook(original);
+            person = editedPerson;
+        }
+        storage.readAddressBook();
+
+        // The journal generations since the previous snapshot are replayed onto it
+        Files.write(filePath, "{\"persons\": [".getBytes(StandardCharsets.UTF_8));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastJournalEntry_skipsEntry() throws Exception {
+        Path filePath = this.testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Path journal = findJournal();
+        Files.write(journal, "{\"operation\":\"ADD\",\"pers".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        JournalAddressBookStorage newStorage = new JournalAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(newStorage.readAddressBook().get()));
+
+        // Saving after a torn entry writes a new snapshot
+        original.addPerson(IDA);
+        newStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidJournalEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = this.testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // Removing ALICE twice refers to a missing person
+        Path journal = findJournal();
+        List<String> lines = Files.readAllLines(journal);
+        Files.write(journal, Arrays.asList(lines.get(0), lines.get(0), lines.get(1)));
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void findMutations_singleChanges_success() {
+        List<Person> before = Arrays.asList(ALICE, BENSON, CARL);
+        assertEquals(Optional.of(Collections.emptyList()), JournalAddressBookStorage.findMutations(before, before));
+
+        List<JournalEntry> entries = JournalAddressBookStorage.findMutations(before,
+                Arrays.asList(ALICE, BENSON, CARL, HOON)).get();
+        assertEquals(1, entries.size());
+        assertEquals(JournalEntry.Operation.ADD, entries.get(0).getOperation());
+
+        entries = JournalAddressBookStorage.findMutations(before, Arrays.asList(ALICE, CARL)).get();
+        assertEquals(1, entries.size());
+        assertEquals(JournalEntry.Operation.REMOVE, entries.get(0).getOperation());
+
+        entries = JournalAddressBookStorage.findMutations(before, Arrays.asList(ALICE, BOB, CARL)).get();
+        assertEquals(1, entries.size());
+        assertEquals(JournalEntry.Operation.SET, entries.get(0).getOperation());
+    }
+
+    @Test
+    public void findMutations_reorderedPersons_empty() {
+        List<Person> before = Arrays.asList(ALICE, BENSON, CARL);
+        assertFalse(JournalAddressBookStorage.findMutations(before, Arrays.asList(BENSON, ALICE, CARL)).isPresent());
+        assertFalse(JournalAddressBookStorage.findMutations(before, Arrays.asList(ALICE, CARL, BENSON)).isPresent());
+    }
+
+    @Test
+    public void findMutations_replacementClashesWithRemovedIdentity_empty() {
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> before = Arrays.asList(ALICE, BENSON);
+        assertFalse(JournalAddressBookStorage.findMutations(before, Arrays.asList(editedBenson)).isPresent());
+        assertTrue(JournalAddressBookStorage.findMutations(before, Arrays.asList(ALICE, editedBenson)).isPresent());
+    }
+
+    private Path findJournal() throws Exception {
+        try (Stream<Path> files = Files.list(this.testFolder)) {
+            return files.filter(path -> path.toString().endsWith(".journal")).findFirst().get();
+        }
+    }
+}
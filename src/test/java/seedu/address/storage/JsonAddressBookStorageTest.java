@@ -9,15 +9,23 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.FXCollections;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +68,32 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_duplicatePersonAddressBook_throwDataLoadingException() {
+        Path filePath = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "duplicatePersonAddressBook.json");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_typicalPersonsAddressBook_success() throws Exception {
+        Path filePath = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "typicalPersonsAddressBook.json");
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_typicalPersons_readableAsSerializableAddressBook() throws Exception {
+        Path filePath = this.testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        JsonSerializableAddressBook readBack = JsonUtil.readJsonFile(filePath,
+                JsonSerializableAddressBook.class).get();
+        assertEquals(original, readBack.toModelType());
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = this.testFolder.resolve("TempAddressBook.json");
@@ -86,6 +120,68 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_severalBatchesOfPersons_success() throws Exception {
+        Path filePath = this.testFolder.resolve("TempAddressBook.json");
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < JsonAddressBookStorage.READ_BATCH_SIZE * 2 + 1; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // Duplicates in different batches are found
+        original.addPerson(new PersonBuilder().withName("Person 0").withPhone("91234567").build());
+        List<Person> persons = new ArrayList<>(original.getPersonList());
+        persons.add(original.getPersonList().get(0));
+        jsonAddressBookStorage.saveAddressBook(() -> FXCollections.observableList(persons));
+        Files.delete(JsonAddressBookStorage.getBackupPath(filePath));
+        assertThrows(DataLoadingException.class, jsonAddressBookStorage::readAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_existingFile_keepsPreviousSaveOnly() throws Exception {
+        Path filePath = this.testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        AddressBook previous = new AddressBook(original);
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        Path backupFile = JsonAddressBookStorage.getBackupPath(filePath);
+        assertEquals(previous, new AddressBook(new JsonAddressBookStorage(backupFile).readAddressBook().get()));
+        try (Stream<Path> files = Files.list(this.testFolder)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_fallsBackToPreviousSave() throws Exception {
+        Path filePath = this.testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        AddressBook previous = new AddressBook(original);
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        // A truncated file falls back to the previous save
+        String content = Files.readString(filePath);
+        Files.writeString(filePath, content.substring(0, content.length() / 2));
+        assertEquals(previous, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // A missing file falls back to the previous save
+        Files.delete(filePath);
+        assertEquals(previous, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        // A corrupted previous save is not hidden
+        Files.writeString(filePath, "not json format!");
+        Files.writeString(JsonAddressBookStorage.getBackupPath(filePath), "not json format!");
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
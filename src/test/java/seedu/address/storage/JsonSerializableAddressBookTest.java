@@ -5,16 +5,24 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.messages.NameMessages;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
 
+    private static final String INVALID_NAME = "R@chel";
+    private static final String INVALID_PHONE = "+651234";
+
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
@@ -44,4 +52,31 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_manyPersons_orderKept() throws Exception {
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < JsonSerializableAddressBook.PARALLEL_THRESHOLD * 4; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        assertEquals(original, new JsonSerializableAddressBook(original).toModelType());
+    }
+
+    @Test
+    public void toModelPersons_manyInvalidPersons_firstErrorThrown() {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < JsonSerializableAddressBook.PARALLEL_THRESHOLD * 4; i++) {
+            persons.add(new JsonAdaptedPerson(new PersonBuilder().withName("Person " + i).build()));
+        }
+        persons.set(10, createAdaptedPerson(INVALID_NAME, PersonBuilder.DEFAULT_PHONE));
+        persons.set(200, createAdaptedPerson(PersonBuilder.DEFAULT_NAME, INVALID_PHONE));
+        assertThrows(IllegalValueException.class, NameMessages.MESSAGE_CONSTRAINTS, () ->
+                JsonSerializableAddressBook.toModelPersons(persons));
+    }
+
+    private static JsonAdaptedPerson createAdaptedPerson(String name, String phone) {
+        return new JsonAdaptedPerson(name, phone, PersonBuilder.DEFAULT_EMAIL, PersonBuilder.DEFAULT_ADDRESS,
+                Collections.emptyList(), PersonBuilder.DEFAULT_HEIGHT.toString(), PersonBuilder.DEFAULT_NOTE,
+                Collections.emptyList(), Collections.emptyList());
+    }
+
 }
@@ -2,9 +2,16 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +67,79 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_writeBehind_readsLatestSave() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
+        StorageManager storageManager = new StorageManager(addressBookStorage, userPrefsStorage, true);
+
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+
+        // Later changes do not leak into the snapshot that was saved
+        AddressBook saved = new AddressBook(original);
+        original.addPerson(HOON);
+        assertEquals(saved, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_coalescesWrites() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteReleased = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> writes = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                writes.add(addressBook);
+                firstWriteStarted.countDown();
+                try {
+                    firstWriteReleased.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager storageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        firstWriteStarted.await();
+
+        // Saves made while the first write is in progress are merged into one write
+        original.addPerson(HOON);
+        storageManager.saveAddressBook(original);
+        original.addPerson(IDA);
+        storageManager.saveAddressBook(original);
+        firstWriteReleased.countDown();
+        storageManager.flush();
+
+        assertEquals(2, writes.size());
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_writeBehindFails_errorHandled() throws Exception {
+        IOException exception = new IOException("dummy IO exception");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw exception;
+            }
+        };
+        StorageManager storageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        List<IOException> errors = new ArrayList<>();
+        storageManager.setSaveErrorHandler(errors::add);
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        storageManager.saveAddressBook(addressBook);
+        storageManager.flush();
+        assertEquals(List.of(exception), errors);
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(this.storageManager.getAddressBookFilePath());